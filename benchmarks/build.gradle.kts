@@ -0,0 +1,34 @@
+plugins {
+	id("java")
+	id("me.champeau.jmh") version "0.7.3"
+}
+
+repositories {
+	mavenCentral()
+}
+
+base {
+	archivesName = "binstd-benchmarks"
+}
+
+dependencies {
+	jmh(project(":"))
+	jmh("org.jetbrains:annotations:26.0.2")
+}
+
+jmh {
+	jmhVersion = "1.37"
+	profilers.add("gc")
+	resultFormat = "JSON"
+}
+
+tasks {
+	java {
+		sourceCompatibility = JavaVersion.VERSION_17
+		targetCompatibility = JavaVersion.VERSION_17
+	}
+
+	withType<JavaCompile> {
+		options.release = 17
+	}
+}
@@ -0,0 +1,130 @@
+package hu.cloudclient.binstd.bench;
+
+import hu.cloudclient.binstd.io.Codec;
+import hu.cloudclient.binstd.io.Codecs;
+import hu.cloudclient.binstd.io.DataInputWrapper;
+import hu.cloudclient.binstd.io.DataOutputWrapper;
+import hu.cloudclient.binstd.io.InputBuffer;
+import hu.cloudclient.binstd.io.OutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// The same message written by hand to a raw DataOutputStream and through a rec codec on both backends
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaselineBenchmark {
+
+	record Position(int id, long time, double x, double y, double z, String world) {
+
+		static final Codec<Position> CODEC = Codec.rec(Position::new,
+			Codecs.I32, Position::id,
+			Codecs.I64, Position::time,
+			Codecs.F64, Position::x,
+			Codecs.F64, Position::y,
+			Codecs.F64, Position::z,
+			Codecs.UTF8, Position::world
+		);
+
+	}
+
+	private final Position value = new Position(42, 1_700_000_000_000L, 128.5, 64, -32.25, "overworld");
+
+	private ByteArrayOutputStream rawBytes;
+	private DataOutputStream raw;
+	private DataOutputWrapper streamOut;
+
+	private OutputBuffer outputBuffer;
+	private DataOutputWrapper bufferOut;
+
+	private byte[] rawEncoded;
+	private ByteArrayInputStream rawInput;
+	private DataInputStream rawIn;
+	private ByteArrayInputStream streamInput;
+	private DataInputWrapper streamIn;
+	private InputBuffer inputBuffer;
+	private DataInputWrapper bufferIn;
+
+	@Setup
+	public void setup() throws IOException {
+		rawBytes = new ByteArrayOutputStream(64);
+		raw = new DataOutputStream(rawBytes);
+		streamOut = new DataOutputWrapper(raw);
+		outputBuffer = new OutputBuffer(64);
+		bufferOut = new DataOutputWrapper(outputBuffer);
+
+		rawEncode();
+		rawEncoded = rawBytes.toByteArray();
+		rawInput = new ByteArrayInputStream(rawEncoded);
+		rawIn = new DataInputStream(rawInput);
+
+		byte[] encoded = DataOutputWrapper.encodeAndGetBytes(value, Position.CODEC);
+		streamInput = new ByteArrayInputStream(encoded);
+		streamIn = new DataInputWrapper(new DataInputStream(streamInput));
+		inputBuffer = new InputBuffer(encoded);
+		bufferIn = new DataInputWrapper(inputBuffer);
+	}
+
+	@Benchmark
+	public int rawEncode() throws IOException {
+		rawBytes.reset();
+		raw.writeInt(value.id());
+		raw.writeLong(value.time());
+		raw.writeDouble(value.x());
+		raw.writeDouble(value.y());
+		raw.writeDouble(value.z());
+		raw.writeUTF(value.world());
+		return rawBytes.size();
+	}
+
+	@Benchmark
+	public int streamEncode() throws IOException {
+		rawBytes.reset();
+		Position.CODEC.encode(streamOut, value);
+		return rawBytes.size();
+	}
+
+	@Benchmark
+	public int bufferEncode() throws IOException {
+		outputBuffer.reset();
+		Position.CODEC.encode(bufferOut, value);
+		return outputBuffer.size();
+	}
+
+	@Benchmark
+	public Position rawDecode() throws IOException {
+		rawInput.reset();
+		return new Position(rawIn.readInt(), rawIn.readLong(), rawIn.readDouble(), rawIn.readDouble(), rawIn.readDouble(), rawIn.readUTF());
+	}
+
+	@Benchmark
+	public Position streamDecode() throws IOException {
+		streamInput.reset();
+		return Position.CODEC.decode(streamIn);
+	}
+
+	@Benchmark
+	public Position bufferDecode() throws IOException {
+		inputBuffer.position(0);
+		return Position.CODEC.decode(bufferIn);
+	}
+
+}
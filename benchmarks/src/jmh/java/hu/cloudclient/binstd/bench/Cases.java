@@ -0,0 +1,160 @@
+package hu.cloudclient.binstd.bench;
+
+import hu.cloudclient.binstd.IntIdentifiableEnum;
+import hu.cloudclient.binstd.io.Codec;
+import hu.cloudclient.binstd.io.Codecs;
+import hu.cloudclient.binstd.io.Utf8Cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+// Every codec benchmarked by CodecBenchmark with a representative value, keyed by the names used in its @Param
+final class Cases {
+
+	record Case<T>(Codec<T> codec, T value) {}
+
+	enum Color implements IntIdentifiableEnum {
+		RED,
+		GREEN,
+		BLUE
+	}
+
+	record R1(int a) {}
+
+	record R5(int a, int b, int c, int d, int e) {}
+
+	record R10(int a, int b, int c, int d, int e, int f, int g, int h, int i, int j) {}
+
+	record R20(int a, int b, int c, int d, int e, int f, int g, int h, int i, int j, int k, int l, int m, int n, int o, int p, int q, int r, int s, int t) {}
+
+	static final Map<String, Case<?>> ALL = new LinkedHashMap<>();
+
+	private static final int[] INTS = IntStream.range(0, 64).map(i -> i * i * 1021).toArray();
+	private static final long[] LONGS = LongStream.range(0, 64).map(i -> i * i * i * 1_000_003L).toArray();
+	private static final byte[] BYTES = new byte[256];
+	private static final int[] SORTED_INTS = IntStream.range(0, 64).map(i -> 10_000 + i * 3 + (i & 1)).toArray();
+	private static final int[] PALETTE = IntStream.range(0, 256).map(i -> 4096 + i * 37 % 16).toArray();
+	private static final long[] TIMESTAMPS = LongStream.range(0, 64).map(i -> 1_700_000_000_000L + i * 1000 + (i % 3)).toArray();
+
+	static {
+		add("BOOL", Codecs.BOOL, true);
+		add("I8", Codecs.I8, (byte) -7);
+		add("U8", Codecs.U8, 200);
+		add("I16", Codecs.I16, (short) -1234);
+		add("U16", Codecs.U16, 54321);
+		add("I32", Codecs.I32, 123_456_789);
+		add("I64", Codecs.I64, 123_456_789_012L);
+		add("VAR32", Codecs.VAR32, 300_000);
+		add("VAR64", Codecs.VAR64, 300_000_000_000L);
+		add("SVAR32", Codecs.SVAR32, -300_000);
+		add("SVAR64", Codecs.SVAR64, -300_000_000_000L);
+		add("PREFIX_VAR32", Codecs.PREFIX_VAR32, 300_000);
+		add("PREFIX_VAR64", Codecs.PREFIX_VAR64, 300_000_000_000L);
+		add("F32", Codecs.F32, 3.14F);
+		add("F64", Codecs.F64, Math.E);
+		add("UTF8", Codecs.UTF8, "Hello, binstd!");
+		add("cachedUTF8", Codecs.cachedUTF8(new Utf8Cache(1024)), "Hello, binstd!");
+		add("UUID", Codecs.UUID, new UUID(0x0123456789ABCDEFL, 0xFEDCBA9876543210L));
+		add("fixedI8Array", Codecs.fixedI8Array(BYTES.length), BYTES);
+		add("DYN_I8_ARRAY", Codecs.DYN_I8_ARRAY, BYTES);
+		add("dynI8Array", Codecs.dynI8Array(1024), BYTES);
+		add("fixedI32Array", Codecs.fixedI32Array(INTS.length), INTS);
+		add("DYN_I32_ARRAY", Codecs.DYN_I32_ARRAY, INTS);
+		add("dynI32Array", Codecs.dynI32Array(1024), INTS);
+		add("fixedI64Array", Codecs.fixedI64Array(LONGS.length), LONGS);
+		add("DYN_I64_ARRAY", Codecs.DYN_I64_ARRAY, LONGS);
+		add("dynI64Array", Codecs.dynI64Array(1024), LONGS);
+		add("fixedVar32Array", Codecs.fixedVar32Array(INTS.length), INTS);
+		add("DYN_VAR32_ARRAY", Codecs.DYN_VAR32_ARRAY, INTS);
+		add("dynVar32Array", Codecs.dynVar32Array(1024), INTS);
+		add("fixedVar64Array", Codecs.fixedVar64Array(LONGS.length), LONGS);
+		add("DYN_VAR64_ARRAY", Codecs.DYN_VAR64_ARRAY, LONGS);
+		add("dynVar64Array", Codecs.dynVar64Array(1024), LONGS);
+		add("fixedSVar32Array", Codecs.fixedSVar32Array(INTS.length), INTS);
+		add("DYN_SVAR32_ARRAY", Codecs.DYN_SVAR32_ARRAY, INTS);
+		add("dynSVar32Array", Codecs.dynSVar32Array(1024), INTS);
+		add("fixedSVar64Array", Codecs.fixedSVar64Array(LONGS.length), LONGS);
+		add("DYN_SVAR64_ARRAY", Codecs.DYN_SVAR64_ARRAY, LONGS);
+		add("dynSVar64Array", Codecs.dynSVar64Array(1024), LONGS);
+		add("DYN_PREFIX_VAR32_ARRAY", Codecs.DYN_PREFIX_VAR32_ARRAY, INTS);
+		add("DYN_PREFIX_VAR64_ARRAY", Codecs.DYN_PREFIX_VAR64_ARRAY, LONGS);
+		add("DYN_DELTA_I32_ARRAY", Codecs.DYN_DELTA_I32_ARRAY, SORTED_INTS);
+		add("DYN_DOUBLE_DELTA_I32_ARRAY", Codecs.DYN_DOUBLE_DELTA_I32_ARRAY, SORTED_INTS);
+		add("DYN_DELTA_I64_ARRAY", Codecs.DYN_DELTA_I64_ARRAY, TIMESTAMPS);
+		add("DYN_DOUBLE_DELTA_I64_ARRAY", Codecs.DYN_DOUBLE_DELTA_I64_ARRAY, TIMESTAMPS);
+		add("DYN_STREAM_VAR32_ARRAY", Codecs.DYN_STREAM_VAR32_ARRAY, INTS);
+		add("DYN_PACKED_I32_ARRAY", Codecs.DYN_PACKED_I32_ARRAY, PALETTE);
+		add("DYN_PALETTE_VAR32_ARRAY", Codecs.DYN_VAR32_ARRAY, PALETTE);
+		add("enum", Codecs.createEnum(Color.class), Color.BLUE);
+		add("intIdentifiable", Codecs.createIntIdentifiable(Color.values()), Color.GREEN);
+		add("rec1", Codec.rec(R1::new,
+			Codecs.VAR32, R1::a
+		), new R1(1));
+		add("rec5", Codec.rec(R5::new,
+			Codecs.VAR32, R5::a,
+			Codecs.VAR32, R5::b,
+			Codecs.VAR32, R5::c,
+			Codecs.VAR32, R5::d,
+			Codecs.VAR32, R5::e
+		), new R5(1, 2, 4, 8, 16));
+		add("rec10", Codec.rec(R10::new,
+			Codecs.VAR32, R10::a,
+			Codecs.VAR32, R10::b,
+			Codecs.VAR32, R10::c,
+			Codecs.VAR32, R10::d,
+			Codecs.VAR32, R10::e,
+			Codecs.VAR32, R10::f,
+			Codecs.VAR32, R10::g,
+			Codecs.VAR32, R10::h,
+			Codecs.VAR32, R10::i,
+			Codecs.VAR32, R10::j
+		), new R10(1, 2, 4, 8, 16, 32, 64, 128, 256, 512));
+		add("rec20", Codec.rec(R20::new,
+			Codecs.VAR32, R20::a,
+			Codecs.VAR32, R20::b,
+			Codecs.VAR32, R20::c,
+			Codecs.VAR32, R20::d,
+			Codecs.VAR32, R20::e,
+			Codecs.VAR32, R20::f,
+			Codecs.VAR32, R20::g,
+			Codecs.VAR32, R20::h,
+			Codecs.VAR32, R20::i,
+			Codecs.VAR32, R20::j,
+			Codecs.VAR32, R20::k,
+			Codecs.VAR32, R20::l,
+			Codecs.VAR32, R20::m,
+			Codecs.VAR32, R20::n,
+			Codecs.VAR32, R20::o,
+			Codecs.VAR32, R20::p,
+			Codecs.VAR32, R20::q,
+			Codecs.VAR32, R20::r,
+			Codecs.VAR32, R20::s,
+			Codecs.VAR32, R20::t
+		), new R20(1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024, 2048, 4096, 8192, 16384, 32768, 65536, 131072, 262144, 524288));
+		add("dynMap", Codec.dynMap(HashMap::new, Codecs.VAR32, Codecs.UTF8), Map.of(1, "one", 2, "two", 3, "three", 4, "four"));
+		add("nullable", Codecs.UTF8.nullable(), "maybe");
+		add("xmap", Codecs.VAR64.xmap(Long::toHexString, s -> Long.parseLong(s, 16)), "cafebabe");
+		add("dynArray", Codecs.UTF8.dynArray(String[]::new), new String[]{"a", "bb", "ccc", "dddd"});
+	}
+
+	private Cases() {}
+
+	private static <T> void add(String name, Codec<T> codec, T value) {
+		ALL.put(name, new Case<>(codec, value));
+	}
+
+	static Case<?> get(String name) {
+		Case<?> c = ALL.get(name);
+
+		if (c == null) {
+			throw new IllegalArgumentException("unknown codec case: " + name);
+		}
+
+		return c;
+	}
+
+}
@@ -0,0 +1,119 @@
+package hu.cloudclient.binstd.bench;
+
+import hu.cloudclient.binstd.io.Codec;
+import hu.cloudclient.binstd.io.DataInputWrapper;
+import hu.cloudclient.binstd.io.DataOutputWrapper;
+import hu.cloudclient.binstd.io.InputBuffer;
+import hu.cloudclient.binstd.io.OutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Encodes / decodes one value of every case in Cases.
+// buffer: DataOutputWrapper / DataInputWrapper over OutputBuffer / InputBuffer, stream: over DataOutputStream / DataInputStream
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+	@Param({
+		"BOOL", "I8", "U8", "I16", "U16", "I32", "I64", "VAR32", "VAR64", "SVAR32", "SVAR64", "PREFIX_VAR32", "PREFIX_VAR64", "F32", "F64", "UTF8", "cachedUTF8", "UUID",
+		"fixedI8Array", "DYN_I8_ARRAY", "dynI8Array", "fixedI32Array", "DYN_I32_ARRAY", "dynI32Array",
+		"fixedI64Array", "DYN_I64_ARRAY", "dynI64Array", "fixedVar32Array", "DYN_VAR32_ARRAY",
+		"dynVar32Array", "fixedVar64Array", "DYN_VAR64_ARRAY", "dynVar64Array", "fixedSVar32Array", "DYN_SVAR32_ARRAY", "dynSVar32Array",
+		"fixedSVar64Array", "DYN_SVAR64_ARRAY", "dynSVar64Array", "DYN_PREFIX_VAR32_ARRAY", "DYN_PREFIX_VAR64_ARRAY",
+		"DYN_DELTA_I32_ARRAY", "DYN_DOUBLE_DELTA_I32_ARRAY", "DYN_DELTA_I64_ARRAY", "DYN_DOUBLE_DELTA_I64_ARRAY",
+		"DYN_STREAM_VAR32_ARRAY", "DYN_PACKED_I32_ARRAY", "DYN_PALETTE_VAR32_ARRAY",
+		"enum", "intIdentifiable",
+		"rec1", "rec5", "rec10", "rec20", "dynMap", "nullable", "xmap", "dynArray"
+	})
+	public String codec;
+
+	@Param({"buffer", "stream"})
+	public String backend;
+
+	private Codec<Object> c;
+	private Object value;
+
+	private OutputBuffer outputBuffer;
+	private ByteArrayOutputStream outputStream;
+	private DataOutputWrapper out;
+
+	private InputBuffer inputBuffer;
+	private ByteArrayInputStream inputStream;
+	private DataInputWrapper in;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setup() throws IOException {
+		Cases.Case<?> benchmarkCase = Cases.get(codec);
+		c = (Codec<Object>) benchmarkCase.codec();
+		value = benchmarkCase.value();
+
+		byte[] bytes = DataOutputWrapper.encodeAndGetBytes(value, c);
+
+		switch (backend) {
+			case "buffer" -> {
+				outputBuffer = new OutputBuffer(bytes.length);
+				out = new DataOutputWrapper(outputBuffer);
+				inputBuffer = new InputBuffer(bytes);
+				in = new DataInputWrapper(inputBuffer);
+			}
+			case "stream" -> {
+				outputStream = new ByteArrayOutputStream(bytes.length);
+				out = new DataOutputWrapper(new DataOutputStream(outputStream));
+				inputStream = new ByteArrayInputStream(bytes);
+				in = new DataInputWrapper(new DataInputStream(inputStream));
+			}
+			default -> throw new IllegalArgumentException("unknown backend: " + backend);
+		}
+	}
+
+	@Benchmark
+	public int encode() throws IOException {
+		if (outputBuffer != null) {
+			outputBuffer.reset();
+			c.encode(out, value);
+			return outputBuffer.size();
+		}
+
+		outputStream.reset();
+		c.encode(out, value);
+		return outputStream.size();
+	}
+
+	@Benchmark
+	public Object decode() throws IOException {
+		if (inputBuffer != null) {
+			inputBuffer.position(0);
+		} else {
+			inputStream.reset();
+		}
+
+		return c.decode(in);
+	}
+
+	@Benchmark
+	public int encodedSize() throws IOException {
+		return c.encodedSize(value);
+	}
+
+}
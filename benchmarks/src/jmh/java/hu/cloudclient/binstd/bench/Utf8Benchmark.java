@@ -0,0 +1,111 @@
+package hu.cloudclient.binstd.bench;
+
+import hu.cloudclient.binstd.io.Codecs;
+import hu.cloudclient.binstd.io.DataInputWrapper;
+import hu.cloudclient.binstd.io.DataOutputWrapper;
+import hu.cloudclient.binstd.io.InputBuffer;
+import hu.cloudclient.binstd.io.OutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Utf8Benchmark {
+
+	@Param({"8", "64", "1024"})
+	public int length;
+
+	@Param({"ascii", "latin1", "cyrillic", "cjk", "emoji"})
+	public String script;
+
+	private String value;
+
+	private OutputBuffer outputBuffer;
+	private DataOutputWrapper out;
+	private InputBuffer inputBuffer;
+	private DataInputWrapper in;
+
+	private ByteArrayOutputStream rawBytes;
+	private DataOutputStream raw;
+
+	@Setup
+	public void setup() throws IOException {
+		String alphabet = switch (script) {
+			case "ascii" -> "The quick brown fox jumps over the lazy dog";
+			case "latin1" -> "\u00C1rv\u00EDzt\u0171r\u0151 t\u00FCk\u00F6rf\u00FAr\u00F3g\u00E9p";
+			case "cyrillic" -> "\u0421\u044A\u0435\u0448\u044C \u0436\u0435 \u0435\u0449\u0451 \u044D\u0442\u0438\u0445";
+			case "cjk" -> "\u6211\u80FD\u541E\u4E0B\u73BB\u7483\u800C\u4E0D\u4F24\u8EAB\u4F53";
+			case "emoji" -> "\uD83D\uDE00\uD83D\uDE80\uD83C\uDF55\uD83D\uDC4D";
+			default -> throw new IllegalArgumentException("unknown script: " + script);
+		};
+
+		StringBuilder sb = new StringBuilder(length);
+
+		while (sb.length() < length) {
+			sb.append(alphabet);
+		}
+
+		value = sb.substring(0, length);
+
+		if (Character.isHighSurrogate(value.charAt(length - 1))) {
+			value = value.substring(0, length - 1);
+		}
+
+		byte[] bytes = DataOutputWrapper.encodeAndGetBytes(value, Codecs.UTF8);
+		outputBuffer = new OutputBuffer(bytes.length);
+		out = new DataOutputWrapper(outputBuffer);
+		inputBuffer = new InputBuffer(bytes);
+		in = new DataInputWrapper(inputBuffer);
+
+		rawBytes = new ByteArrayOutputStream(bytes.length);
+		raw = new DataOutputStream(rawBytes);
+	}
+
+	@Benchmark
+	public int encode() throws IOException {
+		outputBuffer.reset();
+		Codecs.UTF8.encode(out, value);
+		return outputBuffer.size();
+	}
+
+	@Benchmark
+	public String decode() throws IOException {
+		inputBuffer.position(0);
+		return Codecs.UTF8.decode(in);
+	}
+
+	@Benchmark
+	public int encodedSize() throws IOException {
+		return Codecs.UTF8.encodedSize(value);
+	}
+
+	// String.getBytes + length prefix on a plain DataOutputStream
+	@Benchmark
+	public int rawEncode() throws IOException {
+		rawBytes.reset();
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		raw.writeInt(bytes.length);
+		raw.write(bytes);
+		return rawBytes.size();
+	}
+
+}
@@ -10,6 +10,7 @@ dependencies {
 	implementation("org.jetbrains:annotations:26.0.2")
 	implementation("com.google.guava:guava:33.4.8-jre")
 
+	testAnnotationProcessor(project(":processor"))
 	testImplementation("org.junit.jupiter:junit-jupiter-api:5.13.4")
 	testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.13.4")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher:1.13.4")
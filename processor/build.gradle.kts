@@ -0,0 +1,22 @@
+plugins {
+	id("java")
+}
+
+repositories {
+	mavenCentral()
+}
+
+base {
+	archivesName = "binstd-processor"
+}
+
+tasks {
+	java {
+		sourceCompatibility = JavaVersion.VERSION_17
+		targetCompatibility = JavaVersion.VERSION_17
+	}
+
+	withType<JavaCompile> {
+		options.release = 17
+	}
+}
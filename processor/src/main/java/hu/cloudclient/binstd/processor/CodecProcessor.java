@@ -0,0 +1,472 @@
+package hu.cloudclient.binstd.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// Generates <Name>Codec for records and enums annotated with @GenerateCodec. The generated codecs only call
+// DataInputWrapper / DataOutputWrapper and other generated codecs, there is no reflection or lambda in between.
+@SupportedAnnotationTypes(CodecProcessor.GENERATE_CODEC)
+public final class CodecProcessor extends AbstractProcessor {
+
+	static final String ANNOTATIONS = "hu.cloudclient.binstd.annotation.";
+	static final String GENERATE_CODEC = ANNOTATIONS + "GenerateCodec";
+	static final String IO = "hu.cloudclient.binstd.io.";
+
+	private static final int VARIABLE_SIZE = -1;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				try {
+					if (element.getKind() == ElementKind.RECORD) {
+						write((TypeElement) element, generateRecord((TypeElement) element));
+					} else if (element.getKind() == ElementKind.ENUM) {
+						write((TypeElement) element, generateEnum((TypeElement) element));
+					} else {
+						throw new InvalidElementException(element, "@GenerateCodec is only supported on records and enums");
+					}
+				} catch (InvalidElementException e) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+				} catch (IOException e) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "could not write codec: " + e, element);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private void write(TypeElement type, String source) throws IOException {
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedCodecName(type), type).openWriter()) {
+			writer.write(source);
+		}
+	}
+
+	private String generateRecord(TypeElement type) throws InvalidElementException {
+		List<? extends RecordComponentElement> declared = type.getRecordComponents();
+		List<RecordComponentElement> components = wireOrder(type, declared);
+		Set<String> imports = new TreeSet<>(List.of(IO + "Codec", IO + "DataInputWrapper", IO + "DataOutputWrapper", "java.io.IOException"));
+		String name = relativeName(type);
+		List<Mapping> mappings = new ArrayList<>();
+
+		for (RecordComponentElement component : components) {
+			mappings.add(mapping(component, imports));
+		}
+
+		int fixedSize = fixedSizeOf(type, new HashSet<>());
+		StringBuilder body = new StringBuilder();
+
+		body.append("\t@Override\n\tpublic ").append(name).append(" decode(DataInputWrapper in) throws IOException {\n");
+
+		for (int i = 0; i < components.size(); i++) {
+			body.append("\t\t").append(mappings.get(i).type).append(" v").append(declared.indexOf(components.get(i)) + 1)
+				.append(" = ").append(mappings.get(i).read).append(";\n");
+		}
+
+		body.append("\t\treturn new ").append(name).append('(');
+
+		for (int i = 0; i < declared.size(); i++) {
+			body.append(i == 0 ? "" : ", ").append('v').append(i + 1);
+		}
+
+		body.append(");\n\t}\n\n\t@Override\n\tpublic void encode(DataOutputWrapper out, ").append(name).append(" value) throws IOException {\n");
+
+		for (int i = 0; i < components.size(); i++) {
+			String value = "value." + components.get(i).getSimpleName() + "()";
+
+			for (String statement : mappings.get(i).write) {
+				body.append("\t\t").append(String.format(statement, value)).append('\n');
+			}
+		}
+
+		body.append("\t}\n");
+
+		if (fixedSize != VARIABLE_SIZE) {
+			body.append("\n\t@Override\n\tpublic int fixedSize() {\n\t\treturn ").append(fixedSize).append(";\n\t}\n");
+		} else {
+			int constantSize = 0;
+			StringBuilder size = new StringBuilder();
+
+			for (int i = 0; i < components.size(); i++) {
+				Mapping mapping = mappings.get(i);
+
+				if (mapping.fixedSize != VARIABLE_SIZE) {
+					constantSize += mapping.fixedSize;
+				} else {
+					size.append(" + ").append(String.format(mapping.size, "value." + components.get(i).getSimpleName() + "()"));
+				}
+			}
+
+			body.append("\n\t@Override\n\tpublic int encodedSize(").append(name).append(" value) throws IOException {\n\t\treturn ")
+				.append(constantSize).append(size).append(";\n\t}\n");
+
+			// Runs of fixed size components are skipped at once
+			body.append("\n\t@Override\n\tpublic void skip(DataInputWrapper in) throws IOException {\n");
+			int pending = 0;
+
+			for (Mapping mapping : mappings) {
+				if (mapping.fixedSize != VARIABLE_SIZE) {
+					pending += mapping.fixedSize;
+					continue;
+				}
+
+				if (pending > 0) {
+					body.append("\t\tin.skipFully(").append(pending).append(");\n");
+					pending = 0;
+				}
+
+				body.append("\t\t").append(mapping.skip).append('\n');
+			}
+
+			if (pending > 0) {
+				body.append("\t\tin.skipFully(").append(pending).append(");\n");
+			}
+
+			body.append("\t}\n");
+		}
+
+		return source(type, imports, "", body.toString());
+	}
+
+	private String generateEnum(TypeElement type) {
+		Set<String> imports = new TreeSet<>(List.of(IO + "Codec", IO + "DataInputWrapper", IO + "DataOutputWrapper", "java.io.IOException"));
+		String name = relativeName(type);
+		int constants = enumConstantCount(type);
+
+		if (constants > 128) {
+			imports.add(IO + "VarNum");
+		}
+
+		String fields = "\tprivate static final " + name + "[] VALUES = " + name + ".values();\n\n";
+		String body = "\t@Override\n\tpublic " + name + " decode(DataInputWrapper in) throws IOException {\n" +
+			"\t\tint ordinal = in.readVar32();\n\n" +
+			"\t\tif (ordinal < 0 || ordinal >= VALUES.length) {\n" +
+			"\t\t\tthrow new IOException(\"enum ordinal \" + ordinal + \" for class " + type.getQualifiedName() + " is out of bounds\");\n" +
+			"\t\t}\n\n" +
+			"\t\treturn VALUES[ordinal];\n" +
+			"\t}\n\n" +
+			"\t@Override\n\tpublic void encode(DataOutputWrapper out, " + name + " value) throws IOException {\n" +
+			"\t\tout.writeVar32(value.ordinal());\n" +
+			"\t}\n\n" +
+			(constants <= 128
+				? "\t@Override\n\tpublic int fixedSize() {\n\t\treturn 1;\n\t}\n"
+				: "\t@Override\n\tpublic int encodedSize(" + name + " value) {\n\t\treturn VarNum.sizeOf(value.ordinal());\n\t}\n");
+
+		return source(type, imports, fields, body);
+	}
+
+	private String source(TypeElement type, Set<String> imports, String fields, String body) {
+		String packageName = packageOf(type).getQualifiedName().toString();
+		String codecName = codecName(type);
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		imports.add("javax.annotation.processing.Generated");
+		boolean java = false;
+
+		for (String i : imports) {
+			if (!java && (i.startsWith("java.") || i.startsWith("javax."))) {
+				source.append('\n');
+				java = true;
+			}
+
+			source.append("import ").append(i).append(";\n");
+		}
+
+		return source.append("\n@Generated(\"").append(getClass().getName()).append("\")\n")
+			.append("public final class ").append(codecName).append(" implements Codec<").append(relativeName(type)).append("> {\n\n")
+			.append("\tpublic static final ").append(codecName).append(" INSTANCE = new ").append(codecName).append("();\n\n")
+			.append(fields)
+			.append("\tprivate ").append(codecName).append("() {}\n\n")
+			.append(body)
+			.append("\n}\n")
+			.toString();
+	}
+
+	private List<RecordComponentElement> wireOrder(TypeElement type, List<? extends RecordComponentElement> components) throws InvalidElementException {
+		List<RecordComponentElement> ordered = new ArrayList<>(components);
+		long annotated = components.stream().filter(c -> annotation(c, "Order") != null).count();
+
+		if (annotated == 0) {
+			return ordered;
+		}
+
+		if (annotated != components.size()) {
+			throw new InvalidElementException(type, "either every component of " + type.getSimpleName() + " needs @Order or none");
+		}
+
+		ordered.sort(Comparator.comparingInt(c -> intValue(annotation(c, "Order"))));
+
+		for (int i = 1; i < ordered.size(); i++) {
+			if (intValue(annotation(ordered.get(i), "Order")) == intValue(annotation(ordered.get(i - 1), "Order"))) {
+				throw new InvalidElementException(ordered.get(i), "duplicate @Order value");
+			}
+		}
+
+		return ordered;
+	}
+
+	// Java type, read expression, write statements / size expression formatted with the component value, skip statement
+	private record Mapping(String type, String read, List<String> write, int fixedSize, String size, String skip) {
+
+		// Skipped by reading and dropping the value
+		Mapping(String type, String read, List<String> write, int fixedSize, String size) {
+			this(type, read, write, fixedSize, size, read + ";");
+		}
+
+		static Mapping fixed(String type, String read, String write, int fixedSize) {
+			return new Mapping(type, read, List.of(write), fixedSize, null);
+		}
+
+	}
+
+	private Mapping mapping(RecordComponentElement component, Set<String> imports) throws InvalidElementException {
+		TypeMirror type = component.asType();
+		boolean varInt = annotation(component, "VarInt") != null;
+		AnnotationMirror maxLength = annotation(component, "MaxLength");
+		int max = maxLength != null ? intValue(maxLength) : -1;
+
+		if (varInt && !List.of("int", "long", "int[]", "long[]").contains(typeName(type))) {
+			throw new InvalidElementException(component, "@VarInt is only supported on int, long, int[] and long[]");
+		}
+
+		if (maxLength != null && !List.of("java.lang.String", "byte[]", "int[]", "long[]").contains(typeName(type))) {
+			throw new InvalidElementException(component, "@MaxLength is only supported on String, byte[], int[] and long[]");
+		}
+
+		switch (type.getKind()) {
+			case BOOLEAN:
+				return Mapping.fixed("boolean", "in.readBool()", "out.writeBool(%s);", 1);
+			case BYTE:
+				return Mapping.fixed("byte", "in.readI8()", "out.writeI8(%s);", 1);
+			case SHORT:
+				return Mapping.fixed("short", "in.readI16()", "out.writeI16(%s);", 2);
+			case CHAR:
+				return Mapping.fixed("char", "(char) in.readU16()", "out.writeI16(%s);", 2);
+			case INT:
+				if (varInt) {
+					imports.add(IO + "VarNum");
+					return new Mapping("int", "in.readVar32()", List.of("out.writeVar32(%s);"), VARIABLE_SIZE, "VarNum.sizeOf(%s)");
+				}
+
+				return Mapping.fixed("int", "in.readI32()", "out.writeI32(%s);", 4);
+			case LONG:
+				if (varInt) {
+					imports.add(IO + "VarNum");
+					return new Mapping("long", "in.readVar64()", List.of("out.writeVar64(%s);"), VARIABLE_SIZE, "VarNum.sizeOf(%s)");
+				}
+
+				return Mapping.fixed("long", "in.readI64()", "out.writeI64(%s);", 8);
+			case FLOAT:
+				return Mapping.fixed("float", "in.readF32()", "out.writeF32(%s);", 4);
+			case DOUBLE:
+				return Mapping.fixed("double", "in.readF64()", "out.writeF64(%s);", 8);
+			case ARRAY:
+				return arrayMapping(component, (ArrayType) type, varInt, max, imports);
+			case DECLARED:
+				return declaredMapping(component, (TypeElement) ((DeclaredType) type).asElement(), max, imports);
+			default:
+				throw new InvalidElementException(component, "unsupported component type " + type);
+		}
+	}
+
+	private Mapping arrayMapping(RecordComponentElement component, ArrayType type, boolean varInt, int max, Set<String> imports) throws InvalidElementException {
+		String name = switch (type.getComponentType().getKind()) {
+			case BYTE -> "I8";
+			case INT -> varInt ? "Var32" : "I32";
+			case LONG -> varInt ? "Var64" : "I64";
+			default -> throw new InvalidElementException(component, "unsupported array type " + type);
+		};
+
+		String arrayType = typeName(type);
+		String constant = "Codecs.DYN_" + name.toUpperCase() + "_ARRAY";
+		String skip = varInt ? "in.skipDynVarArray(" : "in.skipDynPrimitiveArray(" + (name.equals("I8") ? 1 : name.equals("I32") ? 4 : 8) + (max < 0 ? "" : ", ");
+		imports.add(IO + "Codecs");
+
+		if (max < 0) {
+			return new Mapping(arrayType, "in.readDyn" + name + "Array()", List.of("out.writeDyn" + name + "Array(%s);"), VARIABLE_SIZE, constant + ".encodedSize(%s)", skip + ");");
+		}
+
+		imports.add("hu.cloudclient.binstd.exception.MismatchedLengthException");
+
+		return new Mapping(arrayType, "in.readDyn" + name + "Array(" + max + ")", List.of(
+			"if (%1$s.length > " + max + ") {",
+			"\tthrow new MismatchedLengthException(0, " + max + ", %1$s.length);",
+			"}",
+			"out.writeDyn" + name + "Array(%1$s);"
+		), VARIABLE_SIZE, constant + ".encodedSize(%s)", skip + max + ");");
+	}
+
+	private Mapping declaredMapping(RecordComponentElement component, TypeElement type, int max, Set<String> imports) throws InvalidElementException {
+		String name = type.getQualifiedName().toString();
+
+		if (name.equals("java.lang.String")) {
+			imports.add(IO + "Codecs");
+			return new Mapping("String", max < 0 ? "in.readUTF8()" : "in.readUTF8(" + max + ")", List.of("out.writeUTF8(%s);"), VARIABLE_SIZE, "Codecs.UTF8.encodedSize(%s)",
+				max < 0 ? "in.skipUTF8();" : "in.skipUTF8(" + max + ");");
+		}
+
+		if (name.equals("java.util.UUID")) {
+			imports.add("java.util.UUID");
+			return Mapping.fixed("UUID", "in.readUUID()", "out.writeUUID(%s);", 16);
+		}
+
+		if (annotation(type, "GenerateCodec") != null) {
+			String codec = qualifiedCodecName(type) + ".INSTANCE";
+			int fixedSize = fixedSizeOf(type, new HashSet<>());
+			return new Mapping(name, codec + ".decode(in)", List.of(codec + ".encode(out, %s);"), fixedSize, codec + ".encodedSize(%s)", codec + ".skip(in);");
+		}
+
+		if (type.getKind() == ElementKind.ENUM) {
+			imports.add(IO + "VarNum");
+			return new Mapping(name, "in.readEnum(" + name + ".class)", List.of("out.writeEnum(%s);"),
+				enumConstantCount(type) <= 128 ? 1 : VARIABLE_SIZE, "VarNum.sizeOf(%s.ordinal())");
+		}
+
+		throw new InvalidElementException(component, "unsupported component type " + name + ", annotate it with @GenerateCodec");
+	}
+
+	// Size of every encoded value of a generated codec, VARIABLE_SIZE if it depends on the value or the type is recursive
+	private int fixedSizeOf(TypeElement type, Set<TypeElement> visiting) {
+		if (type.getKind() == ElementKind.ENUM) {
+			return enumConstantCount(type) <= 128 ? 1 : VARIABLE_SIZE;
+		}
+
+		if (!visiting.add(type)) {
+			return VARIABLE_SIZE;
+		}
+
+		int size = 0;
+
+		for (RecordComponentElement component : type.getRecordComponents()) {
+			int componentSize;
+
+			try {
+				TypeMirror componentType = component.asType();
+
+				if (componentType.getKind() == TypeKind.DECLARED && annotation(((DeclaredType) componentType).asElement(), "GenerateCodec") != null) {
+					componentSize = fixedSizeOf((TypeElement) ((DeclaredType) componentType).asElement(), visiting);
+				} else {
+					componentSize = mapping(component, new HashSet<>()).fixedSize;
+				}
+			} catch (InvalidElementException e) {
+				componentSize = VARIABLE_SIZE;
+			}
+
+			if (componentSize == VARIABLE_SIZE) {
+				visiting.remove(type);
+				return VARIABLE_SIZE;
+			}
+
+			size += componentSize;
+		}
+
+		visiting.remove(type);
+		return size;
+	}
+
+	private static int enumConstantCount(TypeElement type) {
+		return (int) type.getEnclosedElements().stream().filter(e -> e.getKind() == ElementKind.ENUM_CONSTANT).count();
+	}
+
+	private static String typeName(TypeMirror type) {
+		return switch (type.getKind()) {
+			case ARRAY -> typeName(((ArrayType) type).getComponentType()) + "[]";
+			case DECLARED -> ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+			default -> type.getKind().name().toLowerCase();
+		};
+	}
+
+	private static AnnotationMirror annotation(Element element, String simpleName) {
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATIONS + simpleName)) {
+				return mirror;
+			}
+		}
+
+		return null;
+	}
+
+	private static int intValue(AnnotationMirror annotation) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals("value")) {
+				return (Integer) entry.getValue().getValue();
+			}
+		}
+
+		throw new IllegalStateException("missing value of " + annotation);
+	}
+
+	private static PackageElement packageOf(Element element) {
+		while (!(element instanceof PackageElement)) {
+			element = element.getEnclosingElement();
+		}
+
+		return (PackageElement) element;
+	}
+
+	// Name of the type relative to its package, e.g. Outer.Inner
+	private static String relativeName(TypeElement type) {
+		String packageName = packageOf(type).getQualifiedName().toString();
+		String name = type.getQualifiedName().toString();
+		return packageName.isEmpty() ? name : name.substring(packageName.length() + 1);
+	}
+
+	private static String codecName(TypeElement type) {
+		return relativeName(type).replace('.', '_') + "Codec";
+	}
+
+	private static String qualifiedCodecName(TypeElement type) {
+		String packageName = packageOf(type).getQualifiedName().toString();
+		return packageName.isEmpty() ? codecName(type) : packageName + '.' + codecName(type);
+	}
+
+	private static final class InvalidElementException extends Exception {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final transient Element element;
+
+		InvalidElementException(Element element, String message) {
+			super(message);
+			this.element = element;
+		}
+
+	}
+
+}
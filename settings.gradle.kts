@@ -0,0 +1,6 @@
+include("processor")
+
+// The JMH plugin is only resolved when benchmarks are asked for, e.g. ./gradlew -Pbenchmarks :benchmarks:jmh
+if (providers.gradleProperty("benchmarks").isPresent) {
+	include("benchmarks")
+}
@@ -0,0 +1,13 @@
+package hu.cloudclient.binstd.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Makes the binstd processor generate <Name>Codec next to the annotated record or enum, nested types are prefixed with
+// their enclosing types, e.g. Outer_InnerCodec. The codec is available through its INSTANCE field.
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateCodec {
+}
@@ -0,0 +1,14 @@
+package hu.cloudclient.binstd.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Upper bound of the encoded byte length of a String, or the length of an array component
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface MaxLength {
+
+	int value();
+}
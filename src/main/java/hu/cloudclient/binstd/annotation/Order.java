@@ -0,0 +1,14 @@
+package hu.cloudclient.binstd.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Position of the component in the encoded form, lowest first. Either every component of a record has one or none.
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Order {
+
+	int value();
+}
@@ -0,0 +1,12 @@
+package hu.cloudclient.binstd.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Encodes an int, long, int[] or long[] component as var-ints instead of fixed size integers
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface VarInt {
+}
@@ -0,0 +1,7 @@
+package hu.cloudclient.binstd.function;
+
+public interface ToBooleanFunction<T> {
+
+	boolean applyAsBoolean(T t);
+
+}
@@ -0,0 +1,7 @@
+package hu.cloudclient.binstd.function;
+
+public interface ToFloatFunction<T> {
+
+	float applyAsFloat(T t);
+
+}
@@ -0,0 +1,89 @@
+package hu.cloudclient.binstd.io;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+// Frame of reference + bit packing for int arrays. Every block of up to BLOCK_SIZE values is stored as its minimum
+// (ZigZag var-int), the bit width of max - min (1 byte), then each value - min in width bits, least significant first.
+final class BitPacking {
+
+	static final int BLOCK_SIZE = 128;
+	// A block at the widest width plus room for the 8 byte window read of the last value
+	static final int MAX_BLOCK_BYTES = BLOCK_SIZE * 4 + 8;
+
+	private static final VarHandle I64 = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private BitPacking() {}
+
+	static int packedSize(int count, int width) {
+		return (count * width + 7) >>> 3;
+	}
+
+	static int min(int[] array, int offset, int count) {
+		int min = Integer.MAX_VALUE;
+
+		for (int i = 0; i < count; i++) {
+			min = Math.min(min, array[offset + i]);
+		}
+
+		return min;
+	}
+
+	static int width(int[] array, int offset, int count, int min) {
+		int bits = 0;
+
+		for (int i = 0; i < count; i++) {
+			bits |= array[offset + i] - min;
+		}
+
+		return 32 - Integer.numberOfLeadingZeros(bits);
+	}
+
+	// Returns the number of bytes written to block
+	static int pack(int[] array, int offset, int count, int min, int width, byte[] block) {
+		long pending = 0;
+		int pendingBits = 0;
+		int p = 0;
+
+		for (int i = 0; i < count; i++) {
+			pending |= ((array[offset + i] - min) & 0xFFFFFFFFL) << pendingBits;
+			pendingBits += width;
+
+			while (pendingBits >= 8) {
+				block[p++] = (byte) pending;
+				pending >>>= 8;
+				pendingBits -= 8;
+			}
+		}
+
+		if (pendingBits > 0) {
+			block[p++] = (byte) pending;
+		}
+
+		return p;
+	}
+
+	// Every value is cut out of the 8 bytes starting at its first byte, width + 7 <= 64 bits always fit
+	static void unpack(byte[] block, int[] array, int offset, int count, int min, int width) {
+		long mask = (1L << width) - 1;
+
+		for (int i = 0, bit = 0; i < count; i++, bit += width) {
+			long window = (long) I64.get(block, bit >>> 3);
+			array[offset + i] = min + (int) (window >>> (bit & 7) & mask);
+		}
+	}
+
+	static int sizeOf(int[] array) {
+		int size = 0;
+
+		for (int offset = 0; offset < array.length; offset += BLOCK_SIZE) {
+			int count = Math.min(BLOCK_SIZE, array.length - offset);
+			int min = min(array, offset, count);
+			size += VarNum.sizeOfSigned(min) + 1 + packedSize(count, width(array, offset, count, min));
+		}
+
+		return size;
+	}
+
+}
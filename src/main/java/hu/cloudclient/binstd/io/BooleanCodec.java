@@ -0,0 +1,64 @@
+package hu.cloudclient.binstd.io;
+
+import hu.cloudclient.binstd.function.ToBooleanFunction;
+
+import java.io.IOException;
+
+public interface BooleanCodec extends Codec<Boolean> {
+
+	boolean decodeBoolean(DataInputWrapper in) throws IOException;
+
+	void encodeBoolean(DataOutputWrapper out, boolean value) throws IOException;
+
+	default int encodedBooleanSize(boolean value) throws IOException {
+		return Codec.super.encodedSize(value);
+	}
+
+	@Override
+	default Boolean decode(DataInputWrapper in) throws IOException {
+		return decodeBoolean(in);
+	}
+
+	@Override
+	default void encode(DataOutputWrapper out, Boolean value) throws IOException {
+		encodeBoolean(out, value);
+	}
+
+	@Override
+	default int encodedSize(Boolean value) throws IOException {
+		return encodedBooleanSize(value);
+	}
+
+	default <O> FieldCodec<O, Boolean> booleanField(ToBooleanFunction<? super O> getter) {
+		return new FieldCodec<>() {
+
+			@Override
+			public Boolean decode(DataInputWrapper in) throws IOException {
+				return decodeBoolean(in);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				BooleanCodec.this.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, O owner) throws IOException {
+				encodeBoolean(out, getter.applyAsBoolean(owner));
+			}
+
+			@Override
+			public int encodedSize(O owner) throws IOException {
+				int fixedSize = fixedSize();
+				return fixedSize != VARIABLE_SIZE ? fixedSize : encodedBooleanSize(getter.applyAsBoolean(owner));
+			}
+
+			@Override
+			public int fixedSize() {
+				return BooleanCodec.this.fixedSize();
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,309 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.UTFDataFormatException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Just enough of the class file format for RecordCodecCompiler. Methods can't branch, so no StackMapTable is needed.
+final class ClassFileWriter {
+
+	static final int ACC_PUBLIC = 0x0001;
+	static final int ACC_PRIVATE = 0x0002;
+	static final int ACC_STATIC = 0x0008;
+	static final int ACC_FINAL = 0x0010;
+	static final int ACC_SUPER = 0x0020;
+
+	static final int ALOAD = 0x19;
+	static final int ASTORE = 0x3A;
+	static final int AALOAD = 0x32;
+	static final int DUP = 0x59;
+	static final int IADD = 0x60;
+	static final int I2L = 0x85;
+	static final int IRETURN = 0xAC;
+	static final int ARETURN = 0xB0;
+	static final int RETURN = 0xB1;
+	static final int GETSTATIC = 0xB2;
+	static final int PUTSTATIC = 0xB3;
+	static final int INVOKEVIRTUAL = 0xB6;
+	static final int INVOKESPECIAL = 0xB7;
+	static final int INVOKESTATIC = 0xB8;
+	static final int INVOKEINTERFACE = 0xB9;
+	static final int NEW = 0xBB;
+	static final int CHECKCAST = 0xC0;
+
+	private static final int VERSION = 61;
+
+	private final OutputBuffer pool = new OutputBuffer();
+	private final Map<String, Integer> constants = new HashMap<>();
+	private int poolSize = 1;
+
+	private final int thisClass;
+	private final int superClass;
+	private final int[] interfaces;
+	private final OutputBuffer fields = new OutputBuffer();
+	private int fieldCount;
+	private final List<Code> methods = new ArrayList<>();
+
+	ClassFileWriter(String name, String superName, String... interfaceNames) {
+		thisClass = classRef(name);
+		superClass = classRef(superName);
+		interfaces = new int[interfaceNames.length];
+
+		for (int i = 0; i < interfaceNames.length; i++) {
+			interfaces[i] = classRef(interfaceNames[i]);
+		}
+	}
+
+	private int constant(String key, int tag, int first, int second) {
+		Integer index = constants.get(key);
+
+		if (index != null) {
+			return index;
+		}
+
+		pool.writeByte(tag);
+		pool.writeShort(first);
+
+		if (second >= 0) {
+			pool.writeShort(second);
+		}
+
+		constants.put(key, poolSize);
+		return poolSize++;
+	}
+
+	int utf8(String value) {
+		Integer index = constants.get("U" + value);
+
+		if (index != null) {
+			return index;
+		}
+
+		pool.writeByte(1);
+
+		try {
+			pool.writeUTF(value);
+		} catch (UTFDataFormatException e) {
+			throw new IllegalArgumentException(e);
+		}
+
+		constants.put("U" + value, poolSize);
+		return poolSize++;
+	}
+
+	int integer(int value) {
+		Integer index = constants.get("I" + value);
+
+		if (index != null) {
+			return index;
+		}
+
+		pool.writeByte(3);
+		pool.writeInt(value);
+		constants.put("I" + value, poolSize);
+		return poolSize++;
+	}
+
+	int classRef(String internalName) {
+		return constant("C" + internalName, 7, utf8(internalName), -1);
+	}
+
+	int string(String value) {
+		return constant("S" + value, 8, utf8(value), -1);
+	}
+
+	private int nameAndType(String name, String descriptor) {
+		return constant("N" + name + ' ' + descriptor, 12, utf8(name), utf8(descriptor));
+	}
+
+	private int memberRef(int tag, String owner, String name, String descriptor) {
+		return constant(tag + owner + '.' + name + descriptor, tag, classRef(owner), nameAndType(name, descriptor));
+	}
+
+	void field(int access, String name, String descriptor) {
+		fields.writeShort(access);
+		fields.writeShort(utf8(name));
+		fields.writeShort(utf8(descriptor));
+		fields.writeShort(0);
+		fieldCount++;
+	}
+
+	Code method(int access, String name, String descriptor, int maxLocals) {
+		Code code = new Code(access, utf8(name), utf8(descriptor), maxLocals);
+		methods.add(code);
+		return code;
+	}
+
+	byte[] toByteArray() {
+		int codeAttribute = utf8("Code");
+		OutputBuffer out = new OutputBuffer(pool.size() + fields.size() + 256);
+		out.writeInt(0xCAFEBABE);
+		out.writeShort(0);
+		out.writeShort(VERSION);
+		out.writeShort(poolSize);
+		out.write(pool.array(), 0, pool.size());
+		out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+		out.writeShort(thisClass);
+		out.writeShort(superClass);
+		out.writeShort(interfaces.length);
+
+		for (int i : interfaces) {
+			out.writeShort(i);
+		}
+
+		out.writeShort(fieldCount);
+		out.write(fields.array(), 0, fields.size());
+		out.writeShort(methods.size());
+
+		for (Code method : methods) {
+			OutputBuffer code = method.code;
+			out.writeShort(method.access);
+			out.writeShort(method.name);
+			out.writeShort(method.descriptor);
+			out.writeShort(1);
+			out.writeShort(codeAttribute);
+			out.writeInt(12 + code.size());
+			out.writeShort(method.maxStack);
+			out.writeShort(method.maxLocals);
+			out.writeInt(code.size());
+			out.write(code.array(), 0, code.size());
+			out.writeShort(0);
+			out.writeShort(0);
+		}
+
+		out.writeShort(0);
+		return out.toByteArray();
+	}
+
+	// Number of stack slots taken by a value of the given descriptor
+	static int slots(char descriptor) {
+		return switch (descriptor) {
+			case 'V' -> 0;
+			case 'J', 'D' -> 2;
+			default -> 1;
+		};
+	}
+
+	private static int argumentSlots(String descriptor) {
+		int slots = 0;
+
+		for (int i = 1; descriptor.charAt(i) != ')'; i++) {
+			char c = descriptor.charAt(i);
+			slots += slots(c);
+
+			while (descriptor.charAt(i) == '[') {
+				i++;
+			}
+
+			if (descriptor.charAt(i) == 'L') {
+				i = descriptor.indexOf(';', i);
+			}
+		}
+
+		return slots;
+	}
+
+	final class Code {
+
+		private final int access;
+		private final int name;
+		private final int descriptor;
+		private final int maxLocals;
+		private final OutputBuffer code = new OutputBuffer();
+		private int stack;
+		private int maxStack;
+
+		private Code(int access, int name, int descriptor, int maxLocals) {
+			this.access = access;
+			this.name = name;
+			this.descriptor = descriptor;
+			this.maxLocals = maxLocals;
+		}
+
+		private void push(int slots) {
+			stack += slots;
+			maxStack = Math.max(maxStack, stack);
+		}
+
+		Code op(int opcode, int stackDelta) {
+			code.writeByte(opcode);
+			push(stackDelta);
+			return this;
+		}
+
+		Code aload(int local) {
+			code.writeByte(ALOAD);
+			code.writeByte(local);
+			push(1);
+			return this;
+		}
+
+		Code astore(int local) {
+			code.writeByte(ASTORE);
+			code.writeByte(local);
+			push(-1);
+			return this;
+		}
+
+		Code iconst(int value) {
+			if (value >= -1 && value <= 5) {
+				code.writeByte(0x03 + value);
+			} else if (value == (byte) value) {
+				code.writeByte(0x10);
+				code.writeByte(value);
+			} else if (value == (short) value) {
+				code.writeByte(0x11);
+				code.writeShort(value);
+			} else {
+				ldc(integer(value));
+				return this;
+			}
+
+			push(1);
+			return this;
+		}
+
+		// Loads a single slot constant pool entry
+		Code ldc(int index) {
+			code.writeByte(0x13);
+			code.writeShort(index);
+			push(1);
+			return this;
+		}
+
+		Code type(int opcode, String internalName) {
+			code.writeByte(opcode);
+			code.writeShort(classRef(internalName));
+			push(opcode == NEW ? 1 : 0);
+			return this;
+		}
+
+		Code field(int opcode, String owner, String name, String descriptor) {
+			code.writeByte(opcode);
+			code.writeShort(memberRef(9, owner, name, descriptor));
+			int slots = slots(descriptor.charAt(0));
+			push(opcode == GETSTATIC ? slots : -slots);
+			return this;
+		}
+
+		Code invoke(int opcode, String owner, String name, String descriptor) {
+			int arguments = argumentSlots(descriptor) + (opcode == INVOKESTATIC ? 0 : 1);
+			code.writeByte(opcode);
+
+			if (opcode == INVOKEINTERFACE) {
+				code.writeShort(memberRef(11, owner, name, descriptor));
+				code.writeByte(arguments);
+				code.writeByte(0);
+			} else {
+				code.writeShort(memberRef(10, owner, name, descriptor));
+			}
+
+			push(slots(descriptor.charAt(descriptor.indexOf(')') + 1)) - arguments);
+			return this;
+		}
+
+	}
+
+}
@@ -5,7 +5,9 @@ import hu.cloudclient.binstd.function.*;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -27,6 +29,16 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				encoder.encode(out, value);
 			}
 
+			@Override
+			public int encodedSize(T value) throws IOException {
+				return encoder.encodedSize(value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return encoder.fixedSize();
+			}
+
 		};
 	}
 
@@ -34,6 +46,11 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 		return new InstanceCodec<>(instance);
 	}
 
+	// Codec derived from the record components, created once per class. See ReflectiveCodecs for the supported types.
+	static <R extends Record> RecordCodec<R> forRecord(Class<R> type) {
+		return ReflectiveCodecs.forRecord(type);
+	}
+
 	static <K, V, M extends Map<K, V>> Codec<Map<K, V>> fixedMap(IntFunction<M> mapFactory, Codec<K> keyCodec, Codec<V> valueCodec, int size) {
 		return new Codec<>() {
 
@@ -42,6 +59,11 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return in.readFixedMap(mapFactory, keyCodec, valueCodec, size);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedMap(keyCodec, valueCodec, size);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, Map<K, V> map) throws IOException {
 				if (map.size() != size) {
@@ -51,6 +73,17 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				out.writeFixedMap(map, keyCodec, valueCodec);
 			}
 
+			@Override
+			public int encodedSize(Map<K, V> map) throws IOException {
+				return sizeOfEntries(map, keyCodec, valueCodec);
+			}
+
+			@Override
+			public int fixedSize() {
+				int entrySize = Encoder.fixedSizeOf(keyCodec, valueCodec);
+				return entrySize == VARIABLE_SIZE ? VARIABLE_SIZE : entrySize * size;
+			}
+
 		};
 	}
 
@@ -62,11 +95,21 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return in.readDynMap(mapFactory, keyCodec, valueCodec);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynMap(keyCodec, valueCodec);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, Map<K, V> map) throws IOException {
 				out.writeDynMap(map, keyCodec, valueCodec);
 			}
 
+			@Override
+			public int encodedSize(Map<K, V> map) throws IOException {
+				return VarNum.sizeOf(map.size()) + sizeOfEntries(map, keyCodec, valueCodec);
+			}
+
 		};
 	}
 
@@ -78,6 +121,11 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return in.readDynMap(mapFactory, keyCodec, valueCodec, maxSize);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynMap(keyCodec, valueCodec, maxSize);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, Map<K, V> map) throws IOException {
 				if (map.size() > maxSize) {
@@ -86,6 +134,11 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				out.writeDynMap(map, keyCodec, valueCodec);
 			}
 
+			@Override
+			public int encodedSize(Map<K, V> map) throws IOException {
+				return VarNum.sizeOf(map.size()) + sizeOfEntries(map, keyCodec, valueCodec);
+			}
+
 		};
 	}
 
@@ -94,11 +147,15 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 	// F?: field ?
 	// c?: codec of field ?
 	// g?: getter of field ? from an instance of T
+	// f?: codec of field ? that reads it from an instance of T, see FieldCodec
 	// v?: decoded value using c?
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1> Codec<T> rec(Function<F1, T> factory, Codec<F1> c1, Function<T, F1> g1) {
-		return new Codec<>() {
+	static <T, F1> RecordCodec<T> rec(Function<F1, T> factory, Codec<F1> c1, Function<T, F1> g1) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1);
+			private final List<Decoder<?>> fields = List.of(c1);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -106,16 +163,50 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2> Codec<T> rec(BiFunction<F1, F2, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2) {
-		return new Codec<>() {
+	static <T, F1, F2> RecordCodec<T> rec(BiFunction<F1, F2, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2);
+			private final List<Decoder<?>> fields = List.of(c1, c2);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -124,17 +215,53 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
 				c2.encode(out, g2.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3> Codec<T> rec(Function3<F1, F2, F3, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3) {
-		return new Codec<>() {
+	static <T, F1, F2, F3> RecordCodec<T> rec(Function3<F1, F2, F3, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -144,18 +271,56 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
 				c2.encode(out, g2.apply(value));
 				c3.encode(out, g3.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4> Codec<T> rec(Function4<F1, F2, F3, F4, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4> RecordCodec<T> rec(Function4<F1, F2, F3, F4, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -166,6 +331,19 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -173,12 +351,39 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c3.encode(out, g3.apply(value));
 				c4.encode(out, g4.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5> Codec<T> rec(Function5<F1, F2, F3, F4, F5, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5> RecordCodec<T> rec(Function5<F1, F2, F3, F4, F5, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -190,6 +395,20 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -198,12 +417,40 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c4.encode(out, g4.apply(value));
 				c5.encode(out, g5.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6> Codec<T> rec(Function6<F1, F2, F3, F4, F5, F6, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6> RecordCodec<T> rec(Function6<F1, F2, F3, F4, F5, F6, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -216,6 +463,21 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -225,12 +487,41 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c5.encode(out, g5.apply(value));
 				c6.encode(out, g6.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7> Codec<T> rec(Function7<F1, F2, F3, F4, F5, F6, F7, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7> RecordCodec<T> rec(Function7<F1, F2, F3, F4, F5, F6, F7, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -244,6 +535,22 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -254,12 +561,42 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c6.encode(out, g6.apply(value));
 				c7.encode(out, g7.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8> Codec<T> rec(Function8<F1, F2, F3, F4, F5, F6, F7, F8, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8> RecordCodec<T> rec(Function8<F1, F2, F3, F4, F5, F6, F7, F8, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -274,6 +611,23 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -285,12 +639,43 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c7.encode(out, g7.apply(value));
 				c8.encode(out, g8.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9> Codec<T> rec(Function9<F1, F2, F3, F4, F5, F6, F7, F8, F9, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9> RecordCodec<T> rec(Function9<F1, F2, F3, F4, F5, F6, F7, F8, F9, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -306,6 +691,24 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -318,12 +721,44 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c8.encode(out, g8.apply(value));
 				c9.encode(out, g9.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10> Codec<T> rec(Function10<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10> RecordCodec<T> rec(Function10<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -340,6 +775,25 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -353,12 +807,45 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c9.encode(out, g9.apply(value));
 				c10.encode(out, g10.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11> Codec<T> rec(Function11<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11> RecordCodec<T> rec(Function11<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -376,6 +863,26 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -390,12 +897,46 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c10.encode(out, g10.apply(value));
 				c11.encode(out, g11.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12> Codec<T> rec(Function12<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12> RecordCodec<T> rec(Function12<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -414,6 +955,27 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -429,12 +991,47 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c11.encode(out, g11.apply(value));
 				c12.encode(out, g12.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13> Codec<T> rec(Function13<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13> RecordCodec<T> rec(Function13<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -454,6 +1051,28 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+				c13.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -470,12 +1089,48 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c12.encode(out, g12.apply(value));
 				c13.encode(out, g13.apply(value));
 			}
-		};
-	}
 
-	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14> Codec<T> rec(Function14<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14) {
-		return new Codec<>() {
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				size += c13.encodedSize(g13.apply(value));
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14> RecordCodec<T> rec(Function14<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -496,6 +1151,29 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+				c13.skip(in);
+				c14.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -513,12 +1191,49 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c13.encode(out, g13.apply(value));
 				c14.encode(out, g14.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				size += c13.encodedSize(g13.apply(value));
+				size += c14.encodedSize(g14.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15> Codec<T> rec(Function15<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15> RecordCodec<T> rec(Function15<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -540,6 +1255,30 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+				c13.skip(in);
+				c14.skip(in);
+				c15.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -558,12 +1297,50 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c14.encode(out, g14.apply(value));
 				c15.encode(out, g15.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				size += c13.encodedSize(g13.apply(value));
+				size += c14.encodedSize(g14.apply(value));
+				size += c15.encodedSize(g15.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16> Codec<T> rec(Function16<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16> RecordCodec<T> rec(Function16<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -586,6 +1363,31 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+				c13.skip(in);
+				c14.skip(in);
+				c15.skip(in);
+				c16.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -605,12 +1407,51 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c15.encode(out, g15.apply(value));
 				c16.encode(out, g16.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				size += c13.encodedSize(g13.apply(value));
+				size += c14.encodedSize(g14.apply(value));
+				size += c15.encodedSize(g15.apply(value));
+				size += c16.encodedSize(g16.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17> Codec<T> rec(Function17<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16, Codec<F17> c17, Function<T, F17> g17) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17> RecordCodec<T> rec(Function17<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16, Codec<F17> c17, Function<T, F17> g17) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16, c17);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16, c17);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -634,6 +1475,32 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+				c13.skip(in);
+				c14.skip(in);
+				c15.skip(in);
+				c16.skip(in);
+				c17.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -654,12 +1521,52 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c16.encode(out, g16.apply(value));
 				c17.encode(out, g17.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				size += c13.encodedSize(g13.apply(value));
+				size += c14.encodedSize(g14.apply(value));
+				size += c15.encodedSize(g15.apply(value));
+				size += c16.encodedSize(g16.apply(value));
+				size += c17.encodedSize(g17.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18> Codec<T> rec(Function18<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16, Codec<F17> c17, Function<T, F17> g17, Codec<F18> c18, Function<T, F18> g18) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18> RecordCodec<T> rec(Function18<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16, Codec<F17> c17, Function<T, F17> g17, Codec<F18> c18, Function<T, F18> g18) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16, c17, c18);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16, c17, c18);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -684,6 +1591,33 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+				c13.skip(in);
+				c14.skip(in);
+				c15.skip(in);
+				c16.skip(in);
+				c17.skip(in);
+				c18.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -705,12 +1639,53 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c17.encode(out, g17.apply(value));
 				c18.encode(out, g18.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				size += c13.encodedSize(g13.apply(value));
+				size += c14.encodedSize(g14.apply(value));
+				size += c15.encodedSize(g15.apply(value));
+				size += c16.encodedSize(g16.apply(value));
+				size += c17.encodedSize(g17.apply(value));
+				size += c18.encodedSize(g18.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19> Codec<T> rec(Function19<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16, Codec<F17> c17, Function<T, F17> g17, Codec<F18> c18, Function<T, F18> g18, Codec<F19> c19, Function<T, F19> g19) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19> RecordCodec<T> rec(Function19<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16, Codec<F17> c17, Function<T, F17> g17, Codec<F18> c18, Function<T, F18> g18, Codec<F19> c19, Function<T, F19> g19) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16, c17, c18, c19);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16, c17, c18, c19);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -736,6 +1711,34 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+				c13.skip(in);
+				c14.skip(in);
+				c15.skip(in);
+				c16.skip(in);
+				c17.skip(in);
+				c18.skip(in);
+				c19.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -758,12 +1761,54 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c18.encode(out, g18.apply(value));
 				c19.encode(out, g19.apply(value));
 			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				size += c13.encodedSize(g13.apply(value));
+				size += c14.encodedSize(g14.apply(value));
+				size += c15.encodedSize(g15.apply(value));
+				size += c16.encodedSize(g16.apply(value));
+				size += c17.encodedSize(g17.apply(value));
+				size += c18.encodedSize(g18.apply(value));
+				size += c19.encodedSize(g19.apply(value));
+				return size;
+			}
 		};
 	}
 
 	// This is an automatically generated method, you should probably not modify this
-	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, F20> Codec<T> rec(Function20<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, F20, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16, Codec<F17> c17, Function<T, F17> g17, Codec<F18> c18, Function<T, F18> g18, Codec<F19> c19, Function<T, F19> g19, Codec<F20> c20, Function<T, F20> g20) {
-		return new Codec<>() {
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, F20> RecordCodec<T> rec(Function20<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, F20, T> factory, Codec<F1> c1, Function<T, F1> g1, Codec<F2> c2, Function<T, F2> g2, Codec<F3> c3, Function<T, F3> g3, Codec<F4> c4, Function<T, F4> g4, Codec<F5> c5, Function<T, F5> g5, Codec<F6> c6, Function<T, F6> g6, Codec<F7> c7, Function<T, F7> g7, Codec<F8> c8, Function<T, F8> g8, Codec<F9> c9, Function<T, F9> g9, Codec<F10> c10, Function<T, F10> g10, Codec<F11> c11, Function<T, F11> g11, Codec<F12> c12, Function<T, F12> g12, Codec<F13> c13, Function<T, F13> g13, Codec<F14> c14, Function<T, F14> g14, Codec<F15> c15, Function<T, F15> g15, Codec<F16> c16, Function<T, F16> g16, Codec<F17> c17, Function<T, F17> g17, Codec<F18> c18, Function<T, F18> g18, Codec<F19> c19, Function<T, F19> g19, Codec<F20> c20, Function<T, F20> g20) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16, c17, c18, c19, c20);
+			private final List<Decoder<?>> fields = List.of(c1, c2, c3, c4, c5, c6, c7, c8, c9, c10, c11, c12, c13, c14, c15, c16, c17, c18, c19, c20);
 
 			@Override
 			public T decode(DataInputWrapper in) throws IOException {
@@ -790,6 +1835,35 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				c1.skip(in);
+				c2.skip(in);
+				c3.skip(in);
+				c4.skip(in);
+				c5.skip(in);
+				c6.skip(in);
+				c7.skip(in);
+				c8.skip(in);
+				c9.skip(in);
+				c10.skip(in);
+				c11.skip(in);
+				c12.skip(in);
+				c13.skip(in);
+				c14.skip(in);
+				c15.skip(in);
+				c16.skip(in);
+				c17.skip(in);
+				c18.skip(in);
+				c19.skip(in);
+				c20.skip(in);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, T value) throws IOException {
 				c1.encode(out, g1.apply(value));
@@ -813,167 +1887,2221 @@ public interface Codec<T> extends Encoder<T>, Decoder<T> {
 				c19.encode(out, g19.apply(value));
 				c20.encode(out, g20.apply(value));
 			}
-		};
-	}
-
-	default Codec<@Nullable T> nullable() {
-		return new Codec<>() {
 
 			@Override
-			public T decode(DataInputWrapper in) throws IOException {
-				return in.readNullable(Codec.this);
+			public int fixedSize() {
+				return fixedSize;
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, T nullable) throws IOException {
-				out.writeNullable(nullable, Codec.this);
+			public List<Decoder<?>> fields() {
+				return fields;
 			}
 
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += c1.encodedSize(g1.apply(value));
+				size += c2.encodedSize(g2.apply(value));
+				size += c3.encodedSize(g3.apply(value));
+				size += c4.encodedSize(g4.apply(value));
+				size += c5.encodedSize(g5.apply(value));
+				size += c6.encodedSize(g6.apply(value));
+				size += c7.encodedSize(g7.apply(value));
+				size += c8.encodedSize(g8.apply(value));
+				size += c9.encodedSize(g9.apply(value));
+				size += c10.encodedSize(g10.apply(value));
+				size += c11.encodedSize(g11.apply(value));
+				size += c12.encodedSize(g12.apply(value));
+				size += c13.encodedSize(g13.apply(value));
+				size += c14.encodedSize(g14.apply(value));
+				size += c15.encodedSize(g15.apply(value));
+				size += c16.encodedSize(g16.apply(value));
+				size += c17.encodedSize(g17.apply(value));
+				size += c18.encodedSize(g18.apply(value));
+				size += c19.encodedSize(g19.apply(value));
+				size += c20.encodedSize(g20.apply(value));
+				return size;
+			}
 		};
 	}
 
-	default Codec<Optional<T>> optional() {
-		return new Codec<>() {
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1> RecordCodec<T> rec(Function<F1, T> factory, FieldCodec<T, F1> f1) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1);
+			private final List<Decoder<?>> fields = List.of(f1);
 
 			@Override
-			public Optional<T> decode(DataInputWrapper in) throws IOException {
-				return Optional.ofNullable(in.readNullable(Codec.this));
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				return factory.apply(v1);
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, Optional<T> optional) throws IOException {
-				out.writeNullable(optional.orElse(null), Codec.this);
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
 			}
 
-		};
-	}
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+			}
 
-	default Codec<T[]> fixedArray(IntFunction<T[]> arrayFactory, int length) {
-		return new Codec<>() {
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
 
 			@Override
-			public T[] decode(DataInputWrapper in) throws IOException {
-				return in.readFixedArray(arrayFactory, Codec.this, length);
+			public List<Decoder<?>> fields() {
+				return fields;
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, T[] value) throws IOException {
-				if (value.length != length) {
-					throw new MismatchedLengthException(length, value.length);
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
 				}
 
-				out.writeFixedArray(value, Codec.this);
+				int size = 0;
+				size += f1.encodedSize(value);
+				return size;
 			}
-
 		};
 	}
 
-	default Codec<T[]> dynArray(IntFunction<T[]> arrayFactory) {
-		return new Codec<>() {
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2> RecordCodec<T> rec(BiFunction<F1, F2, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2);
+			private final List<Decoder<?>> fields = List.of(f1, f2);
 
 			@Override
-			public T[] decode(DataInputWrapper in) throws IOException {
-				return in.readDynArray(arrayFactory, Codec.this);
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				return factory.apply(v1, v2);
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, T[] array) throws IOException {
-				out.writeDynArray(array, Codec.this);
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
 			}
 
-		};
-	}
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+			}
 
-	default Codec<T[]> dynArray(IntFunction<T[]> arrayFactory, int maxLength) {
-		return new Codec<>() {
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
 
 			@Override
-			public T[] decode(DataInputWrapper in) throws IOException {
-				return in.readDynArray(arrayFactory, Codec.this, maxLength);
+			public List<Decoder<?>> fields() {
+				return fields;
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, T[] array) throws IOException {
-				if (array.length > maxLength) {
-					throw new MismatchedLengthException(0, maxLength, array.length);
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
 				}
 
-				out.writeDynArray(array, Codec.this);
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				return size;
 			}
-
 		};
 	}
 
-	default <C extends Collection<T>> Codec<Collection<T>> fixedCollection(IntFunction<C> collectionFactory, int expectedSize) {
-		return new Codec<>() {
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3> RecordCodec<T> rec(Function3<F1, F2, F3, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3);
 
 			@Override
-			public C decode(DataInputWrapper in) throws IOException {
-				return in.readFixedCollection(collectionFactory, Codec.this, expectedSize);
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				return factory.apply(v1, v2, v3);
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, Collection<T> collection) throws IOException {
-				if (collection.size() != expectedSize) {
-					throw new MismatchedLengthException(expectedSize, collection.size());
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
 				}
 
-				out.writeFixedCollection(collection, Codec.this);
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
 			}
 
-		};
-	}
-
-	default <C extends Collection<T>> Codec<Collection<T>> dynCollection(IntFunction<C> collectionFactory) {
-		return new Codec<>() {
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+			}
 
 			@Override
-			public C decode(DataInputWrapper in) throws IOException {
-				return in.readDynArrayAsCollection(collectionFactory, Codec.this);
+			public int fixedSize() {
+				return fixedSize;
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, Collection<T> collection) throws IOException {
-				out.writeDynCollection(collection, Codec.this);
+			public List<Decoder<?>> fields() {
+				return fields;
 			}
 
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				return size;
+			}
 		};
 	}
 
-	default <C extends Collection<T>> Codec<Collection<T>> dynCollection(IntFunction<C> collectionFactory, int maxSize) {
-		return new Codec<>() {
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4> RecordCodec<T> rec(Function4<F1, F2, F3, F4, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4);
 
 			@Override
-			public C decode(DataInputWrapper in) throws IOException {
-				return in.readDynArrayAsCollection(collectionFactory, Codec.this, maxSize);
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				return factory.apply(v1, v2, v3, v4);
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, Collection<T> collection) throws IOException {
-				if (collection.size() > maxSize) {
-					throw new MismatchedLengthException(0, maxSize, collection.size());
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
 				}
 
-				out.writeDynCollection(collection, Codec.this);
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
 			}
 
-		};
-	}
-
-	default <NT> Codec<NT> xmap(Function<? super T, ? extends NT> factory, Function<? super NT, ? extends T> getter) {
-		return new Codec<>() {
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+			}
 
 			@Override
-			public NT decode(DataInputWrapper in) throws IOException {
-				return factory.apply(Codec.this.decode(in));
+			public int fixedSize() {
+				return fixedSize;
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, NT value) throws IOException {
-				Codec.this.encode(out, getter.apply(value));
+			public List<Decoder<?>> fields() {
+				return fields;
 			}
 
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				return size;
+			}
 		};
 	}
 
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5> RecordCodec<T> rec(Function5<F1, F2, F3, F4, F5, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6> RecordCodec<T> rec(Function6<F1, F2, F3, F4, F5, F6, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7> RecordCodec<T> rec(Function7<F1, F2, F3, F4, F5, F6, F7, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8> RecordCodec<T> rec(Function8<F1, F2, F3, F4, F5, F6, F7, F8, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9> RecordCodec<T> rec(Function9<F1, F2, F3, F4, F5, F6, F7, F8, F9, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10> RecordCodec<T> rec(Function10<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11> RecordCodec<T> rec(Function11<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12> RecordCodec<T> rec(Function12<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13> RecordCodec<T> rec(Function13<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12, FieldCodec<T, F13> f13) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				F13 v13 = f13.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+				f13.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+				f13.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				size += f13.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14> RecordCodec<T> rec(Function14<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12, FieldCodec<T, F13> f13, FieldCodec<T, F14> f14) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				F13 v13 = f13.decode(in);
+				F14 v14 = f14.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+				f13.skip(in);
+				f14.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+				f13.encode(out, value);
+				f14.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				size += f13.encodedSize(value);
+				size += f14.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15> RecordCodec<T> rec(Function15<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12, FieldCodec<T, F13> f13, FieldCodec<T, F14> f14, FieldCodec<T, F15> f15) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				F13 v13 = f13.decode(in);
+				F14 v14 = f14.decode(in);
+				F15 v15 = f15.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+				f13.skip(in);
+				f14.skip(in);
+				f15.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+				f13.encode(out, value);
+				f14.encode(out, value);
+				f15.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				size += f13.encodedSize(value);
+				size += f14.encodedSize(value);
+				size += f15.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16> RecordCodec<T> rec(Function16<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12, FieldCodec<T, F13> f13, FieldCodec<T, F14> f14, FieldCodec<T, F15> f15, FieldCodec<T, F16> f16) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				F13 v13 = f13.decode(in);
+				F14 v14 = f14.decode(in);
+				F15 v15 = f15.decode(in);
+				F16 v16 = f16.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+				f13.skip(in);
+				f14.skip(in);
+				f15.skip(in);
+				f16.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+				f13.encode(out, value);
+				f14.encode(out, value);
+				f15.encode(out, value);
+				f16.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				size += f13.encodedSize(value);
+				size += f14.encodedSize(value);
+				size += f15.encodedSize(value);
+				size += f16.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17> RecordCodec<T> rec(Function17<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12, FieldCodec<T, F13> f13, FieldCodec<T, F14> f14, FieldCodec<T, F15> f15, FieldCodec<T, F16> f16, FieldCodec<T, F17> f17) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				F13 v13 = f13.decode(in);
+				F14 v14 = f14.decode(in);
+				F15 v15 = f15.decode(in);
+				F16 v16 = f16.decode(in);
+				F17 v17 = f17.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+				f13.skip(in);
+				f14.skip(in);
+				f15.skip(in);
+				f16.skip(in);
+				f17.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+				f13.encode(out, value);
+				f14.encode(out, value);
+				f15.encode(out, value);
+				f16.encode(out, value);
+				f17.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				size += f13.encodedSize(value);
+				size += f14.encodedSize(value);
+				size += f15.encodedSize(value);
+				size += f16.encodedSize(value);
+				size += f17.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18> RecordCodec<T> rec(Function18<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12, FieldCodec<T, F13> f13, FieldCodec<T, F14> f14, FieldCodec<T, F15> f15, FieldCodec<T, F16> f16, FieldCodec<T, F17> f17, FieldCodec<T, F18> f18) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				F13 v13 = f13.decode(in);
+				F14 v14 = f14.decode(in);
+				F15 v15 = f15.decode(in);
+				F16 v16 = f16.decode(in);
+				F17 v17 = f17.decode(in);
+				F18 v18 = f18.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+				f13.skip(in);
+				f14.skip(in);
+				f15.skip(in);
+				f16.skip(in);
+				f17.skip(in);
+				f18.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+				f13.encode(out, value);
+				f14.encode(out, value);
+				f15.encode(out, value);
+				f16.encode(out, value);
+				f17.encode(out, value);
+				f18.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				size += f13.encodedSize(value);
+				size += f14.encodedSize(value);
+				size += f15.encodedSize(value);
+				size += f16.encodedSize(value);
+				size += f17.encodedSize(value);
+				size += f18.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19> RecordCodec<T> rec(Function19<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12, FieldCodec<T, F13> f13, FieldCodec<T, F14> f14, FieldCodec<T, F15> f15, FieldCodec<T, F16> f16, FieldCodec<T, F17> f17, FieldCodec<T, F18> f18, FieldCodec<T, F19> f19) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				F13 v13 = f13.decode(in);
+				F14 v14 = f14.decode(in);
+				F15 v15 = f15.decode(in);
+				F16 v16 = f16.decode(in);
+				F17 v17 = f17.decode(in);
+				F18 v18 = f18.decode(in);
+				F19 v19 = f19.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+				f13.skip(in);
+				f14.skip(in);
+				f15.skip(in);
+				f16.skip(in);
+				f17.skip(in);
+				f18.skip(in);
+				f19.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+				f13.encode(out, value);
+				f14.encode(out, value);
+				f15.encode(out, value);
+				f16.encode(out, value);
+				f17.encode(out, value);
+				f18.encode(out, value);
+				f19.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				size += f13.encodedSize(value);
+				size += f14.encodedSize(value);
+				size += f15.encodedSize(value);
+				size += f16.encodedSize(value);
+				size += f17.encodedSize(value);
+				size += f18.encodedSize(value);
+				size += f19.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// This is an automatically generated method, you should probably not modify this
+	static <T, F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, F20> RecordCodec<T> rec(Function20<F1, F2, F3, F4, F5, F6, F7, F8, F9, F10, F11, F12, F13, F14, F15, F16, F17, F18, F19, F20, T> factory, FieldCodec<T, F1> f1, FieldCodec<T, F2> f2, FieldCodec<T, F3> f3, FieldCodec<T, F4> f4, FieldCodec<T, F5> f5, FieldCodec<T, F6> f6, FieldCodec<T, F7> f7, FieldCodec<T, F8> f8, FieldCodec<T, F9> f9, FieldCodec<T, F10> f10, FieldCodec<T, F11> f11, FieldCodec<T, F12> f12, FieldCodec<T, F13> f13, FieldCodec<T, F14> f14, FieldCodec<T, F15> f15, FieldCodec<T, F16> f16, FieldCodec<T, F17> f17, FieldCodec<T, F18> f18, FieldCodec<T, F19> f19, FieldCodec<T, F20> f20) {
+		return new RecordCodec<>() {
+
+			private final int fixedSize = Encoder.fixedSizeOf(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19, f20);
+			private final List<Decoder<?>> fields = List.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19, f20);
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				F1 v1 = f1.decode(in);
+				F2 v2 = f2.decode(in);
+				F3 v3 = f3.decode(in);
+				F4 v4 = f4.decode(in);
+				F5 v5 = f5.decode(in);
+				F6 v6 = f6.decode(in);
+				F7 v7 = f7.decode(in);
+				F8 v8 = f8.decode(in);
+				F9 v9 = f9.decode(in);
+				F10 v10 = f10.decode(in);
+				F11 v11 = f11.decode(in);
+				F12 v12 = f12.decode(in);
+				F13 v13 = f13.decode(in);
+				F14 v14 = f14.decode(in);
+				F15 v15 = f15.decode(in);
+				F16 v16 = f16.decode(in);
+				F17 v17 = f17.decode(in);
+				F18 v18 = f18.decode(in);
+				F19 v19 = f19.decode(in);
+				F20 v20 = f20.decode(in);
+				return factory.apply(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10, v11, v12, v13, v14, v15, v16, v17, v18, v19, v20);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					in.skipFully(fixedSize);
+					return;
+				}
+
+				f1.skip(in);
+				f2.skip(in);
+				f3.skip(in);
+				f4.skip(in);
+				f5.skip(in);
+				f6.skip(in);
+				f7.skip(in);
+				f8.skip(in);
+				f9.skip(in);
+				f10.skip(in);
+				f11.skip(in);
+				f12.skip(in);
+				f13.skip(in);
+				f14.skip(in);
+				f15.skip(in);
+				f16.skip(in);
+				f17.skip(in);
+				f18.skip(in);
+				f19.skip(in);
+				f20.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				f1.encode(out, value);
+				f2.encode(out, value);
+				f3.encode(out, value);
+				f4.encode(out, value);
+				f5.encode(out, value);
+				f6.encode(out, value);
+				f7.encode(out, value);
+				f8.encode(out, value);
+				f9.encode(out, value);
+				f10.encode(out, value);
+				f11.encode(out, value);
+				f12.encode(out, value);
+				f13.encode(out, value);
+				f14.encode(out, value);
+				f15.encode(out, value);
+				f16.encode(out, value);
+				f17.encode(out, value);
+				f18.encode(out, value);
+				f19.encode(out, value);
+				f20.encode(out, value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return fixedSize;
+			}
+
+			@Override
+			public List<Decoder<?>> fields() {
+				return fields;
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				if (fixedSize != VARIABLE_SIZE) {
+					return fixedSize;
+				}
+
+				int size = 0;
+				size += f1.encodedSize(value);
+				size += f2.encodedSize(value);
+				size += f3.encodedSize(value);
+				size += f4.encodedSize(value);
+				size += f5.encodedSize(value);
+				size += f6.encodedSize(value);
+				size += f7.encodedSize(value);
+				size += f8.encodedSize(value);
+				size += f9.encodedSize(value);
+				size += f10.encodedSize(value);
+				size += f11.encodedSize(value);
+				size += f12.encodedSize(value);
+				size += f13.encodedSize(value);
+				size += f14.encodedSize(value);
+				size += f15.encodedSize(value);
+				size += f16.encodedSize(value);
+				size += f17.encodedSize(value);
+				size += f18.encodedSize(value);
+				size += f19.encodedSize(value);
+				size += f20.encodedSize(value);
+				return size;
+			}
+		};
+	}
+
+	// Values of a fixed size are skipped in one step, anything else is decoded unless the codec overrides this
+	@Override
+	default void skip(DataInputWrapper in) throws IOException {
+		int fixedSize = fixedSize();
+
+		if (fixedSize != VARIABLE_SIZE) {
+			in.skipFully(fixedSize);
+			return;
+		}
+
+		decode(in);
+	}
+
+	default Codec<@Nullable T> nullable() {
+		return new Codec<>() {
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				return in.readNullable(Codec.this);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipNullable(Codec.this);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T nullable) throws IOException {
+				out.writeNullable(nullable, Codec.this);
+			}
+
+			@Override
+			public int encodedSize(T nullable) throws IOException {
+				return nullable == null ? 1 : 1 + Codec.this.encodedSize(nullable);
+			}
+
+		};
+	}
+
+	default Codec<Optional<T>> optional() {
+		return new Codec<>() {
+
+			@Override
+			public Optional<T> decode(DataInputWrapper in) throws IOException {
+				return Optional.ofNullable(in.readNullable(Codec.this));
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipNullable(Codec.this);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, Optional<T> optional) throws IOException {
+				out.writeNullable(optional.orElse(null), Codec.this);
+			}
+
+			@Override
+			public int encodedSize(Optional<T> optional) throws IOException {
+				return optional.isEmpty() ? 1 : 1 + Codec.this.encodedSize(optional.get());
+			}
+
+		};
+	}
+
+	// The value prefixed with its var32 encoded length, so it can be skipped or buffered whole without parsing it.
+	// IncrementalDecoder reads these, it waits for the whole frame and decodes it once.
+	default Codec<T> framed() {
+		return new Codec<>() {
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				int length = readFrameLength(in);
+				long start = in.bytesRead();
+				T value = Codec.this.decode(in);
+				long read = in.bytesRead() - start;
+
+				if (read != length) {
+					throw new MismatchedLengthException(length, (int) read);
+				}
+
+				return value;
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFully(readFrameLength(in));
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				OutputBuffer frame = new OutputBuffer();
+				Codec.this.encode(new DataOutputWrapper(frame), value);
+				out.writeVar32(frame.size());
+				out.writeFixedI8Array(frame.array(), 0, frame.size());
+			}
+
+			@Override
+			public int encodedSize(T value) throws IOException {
+				int size = Codec.this.encodedSize(value);
+				return VarNum.sizeOf(size) + size;
+			}
+
+		};
+	}
+
+	default Codec<T[]> fixedArray(IntFunction<T[]> arrayFactory, int length) {
+		return new Codec<>() {
+
+			@Override
+			public T[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedArray(arrayFactory, Codec.this, length);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedArray(Codec.this, length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T[] value) throws IOException {
+				if (value.length != length) {
+					throw new MismatchedLengthException(length, value.length);
+				}
+
+				out.writeFixedArray(value, Codec.this);
+			}
+
+			@Override
+			public int encodedSize(T[] value) throws IOException {
+				return sizeOfElements(Arrays.asList(value), value.length, Codec.this);
+			}
+
+			@Override
+			public int fixedSize() {
+				int elementSize = Codec.this.fixedSize();
+				return elementSize == VARIABLE_SIZE ? VARIABLE_SIZE : elementSize * length;
+			}
+
+		};
+	}
+
+	default Codec<T[]> dynArray(IntFunction<T[]> arrayFactory) {
+		return new Codec<>() {
+
+			@Override
+			public T[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynArray(arrayFactory, Codec.this);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynArray(Codec.this);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T[] array) throws IOException {
+				out.writeDynArray(array, Codec.this);
+			}
+
+			@Override
+			public int encodedSize(T[] array) throws IOException {
+				return VarNum.sizeOf(array.length) + sizeOfElements(Arrays.asList(array), array.length, Codec.this);
+			}
+
+		};
+	}
+
+	default Codec<T[]> dynArray(IntFunction<T[]> arrayFactory, int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public T[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynArray(arrayFactory, Codec.this, maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynArray(Codec.this, maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynArray(array, Codec.this);
+			}
+
+			@Override
+			public int encodedSize(T[] array) throws IOException {
+				return VarNum.sizeOf(array.length) + sizeOfElements(Arrays.asList(array), array.length, Codec.this);
+			}
+
+		};
+	}
+
+	default <C extends Collection<T>> Codec<Collection<T>> fixedCollection(IntFunction<C> collectionFactory, int expectedSize) {
+		return new Codec<>() {
+
+			@Override
+			public C decode(DataInputWrapper in) throws IOException {
+				return in.readFixedCollection(collectionFactory, Codec.this, expectedSize);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedArray(Codec.this, expectedSize);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, Collection<T> collection) throws IOException {
+				if (collection.size() != expectedSize) {
+					throw new MismatchedLengthException(expectedSize, collection.size());
+				}
+
+				out.writeFixedCollection(collection, Codec.this);
+			}
+
+			@Override
+			public int encodedSize(Collection<T> collection) throws IOException {
+				return sizeOfElements(collection, collection.size(), Codec.this);
+			}
+
+			@Override
+			public int fixedSize() {
+				int elementSize = Codec.this.fixedSize();
+				return elementSize == VARIABLE_SIZE ? VARIABLE_SIZE : elementSize * expectedSize;
+			}
+
+		};
+	}
+
+	default <C extends Collection<T>> Codec<Collection<T>> dynCollection(IntFunction<C> collectionFactory) {
+		return new Codec<>() {
+
+			@Override
+			public C decode(DataInputWrapper in) throws IOException {
+				return in.readDynArrayAsCollection(collectionFactory, Codec.this);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynArray(Codec.this);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, Collection<T> collection) throws IOException {
+				out.writeDynCollection(collection, Codec.this);
+			}
+
+			@Override
+			public int encodedSize(Collection<T> collection) throws IOException {
+				return VarNum.sizeOf(collection.size()) + sizeOfElements(collection, collection.size(), Codec.this);
+			}
+
+		};
+	}
+
+	default <C extends Collection<T>> Codec<Collection<T>> dynCollection(IntFunction<C> collectionFactory, int maxSize) {
+		return new Codec<>() {
+
+			@Override
+			public C decode(DataInputWrapper in) throws IOException {
+				return in.readDynArrayAsCollection(collectionFactory, Codec.this, maxSize);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynArray(Codec.this, maxSize);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, Collection<T> collection) throws IOException {
+				if (collection.size() > maxSize) {
+					throw new MismatchedLengthException(0, maxSize, collection.size());
+				}
+
+				out.writeDynCollection(collection, Codec.this);
+			}
+
+			@Override
+			public int encodedSize(Collection<T> collection) throws IOException {
+				return VarNum.sizeOf(collection.size()) + sizeOfElements(collection, collection.size(), Codec.this);
+			}
+
+		};
+	}
+
+	default <NT> Codec<NT> xmap(Function<? super T, ? extends NT> factory, Function<? super NT, ? extends T> getter) {
+		return new Codec<>() {
+
+			@Override
+			public NT decode(DataInputWrapper in) throws IOException {
+				return factory.apply(Codec.this.decode(in));
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				Codec.this.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, NT value) throws IOException {
+				Codec.this.encode(out, getter.apply(value));
+			}
+
+			@Override
+			public int encodedSize(NT value) throws IOException {
+				return Codec.this.encodedSize(getter.apply(value));
+			}
+
+			@Override
+			public int fixedSize() {
+				return Codec.this.fixedSize();
+			}
+
+		};
+	}
+
+	default <O> FieldCodec<O, T> field(Function<? super O, ? extends T> getter) {
+		return new FieldCodec<>() {
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				return Codec.this.decode(in);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				Codec.this.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, O owner) throws IOException {
+				Codec.this.encode(out, getter.apply(owner));
+			}
+
+			@Override
+			public int encodedSize(O owner) throws IOException {
+				return Codec.this.encodedSize(getter.apply(owner));
+			}
+
+			@Override
+			public int fixedSize() {
+				return Codec.this.fixedSize();
+			}
+
+		};
+	}
+
+	private static int readFrameLength(DataInputWrapper in) throws IOException {
+		int length = in.readVar32();
+
+		if (length < 0) {
+			throw new MismatchedLengthException(0, Integer.MAX_VALUE, length);
+		}
+
+		return length;
+	}
+
+	private static <T> int sizeOfElements(Iterable<? extends T> elements, int count, Encoder<T> encoder) throws IOException {
+		int elementSize = encoder.fixedSize();
+
+		if (elementSize != VARIABLE_SIZE) {
+			return Math.multiplyExact(elementSize, count);
+		}
+
+		int size = 0;
+
+		for (T element : elements) {
+			size += encoder.encodedSize(element);
+		}
+
+		return size;
+	}
+
+	private static <K, V> int sizeOfEntries(Map<K, V> map, Encoder<K> keyEncoder, Encoder<V> valueEncoder) throws IOException {
+		int entrySize = Encoder.fixedSizeOf(keyEncoder, valueEncoder);
+
+		if (entrySize != VARIABLE_SIZE) {
+			return Math.multiplyExact(entrySize, map.size());
+		}
+
+		int size = 0;
+
+		for (Map.Entry<K, V> entry : map.entrySet()) {
+			size += keyEncoder.encodedSize(entry.getKey()) + valueEncoder.encodedSize(entry.getValue());
+		}
+
+		return size;
+	}
+
 }
@@ -10,18 +10,23 @@ import java.util.function.ToIntFunction;
 
 public final class Codecs {
 
-	public static final Codec<Boolean> BOOL = new Codec<>() {
+	public static final BooleanCodec BOOL = new BooleanCodec() {
 
 		@Override
-		public Boolean decode(DataInputWrapper in) throws IOException {
+		public boolean decodeBoolean(DataInputWrapper in) throws IOException {
 			return in.readBool();
 		}
 
 		@Override
-		public void encode(DataOutputWrapper out, Boolean value) throws IOException {
+		public void encodeBoolean(DataOutputWrapper out, boolean value) throws IOException {
 			out.writeBool(value);
 		}
 
+		@Override
+		public int fixedSize() {
+			return 1;
+		}
+
 	};
 
 	public static final Codec<Byte> I8 = new Codec<>() {
@@ -36,6 +41,11 @@ public final class Codecs {
 			return in.readI8();
 		}
 
+		@Override
+		public int fixedSize() {
+			return 1;
+		}
+
 	};
 
 	public static Codec<byte[]> fixedI8Array(int length) {
@@ -55,6 +65,11 @@ public final class Codecs {
 				out.writeFixedI8Array(array);
 			}
 
+			@Override
+			public int fixedSize() {
+				return length;
+			}
+
 		};
 	}
 
@@ -65,11 +80,21 @@ public final class Codecs {
 			return in.readDynI8Array();
 		}
 
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynPrimitiveArray(1);
+		}
+
 		@Override
 		public void encode(DataOutputWrapper out, byte[] array) throws IOException {
 			out.writeDynI8Array(array);
 		}
 
+		@Override
+		public int encodedSize(byte[] array) {
+			return VarNum.sizeOf(array.length) + array.length;
+		}
+
 	};
 
 	public static Codec<byte[]> dynI8Array(int maxLength) {
@@ -80,6 +105,11 @@ public final class Codecs {
 				return in.readDynI8Array(maxLength);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynPrimitiveArray(1, maxLength);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, byte[] array) throws IOException {
 				if (array.length > maxLength) {
@@ -89,21 +119,31 @@ public final class Codecs {
 				out.writeDynI8Array(array);
 			}
 
+			@Override
+			public int encodedSize(byte[] array) {
+				return VarNum.sizeOf(array.length) + array.length;
+			}
+
 		};
 	}
 
-	public static final Codec<Integer> U8 = new Codec<>() {
+	public static final IntCodec U8 = new IntCodec() {
 
 		@Override
-		public void encode(DataOutputWrapper out, Integer value) throws IOException {
+		public void encodeInt(DataOutputWrapper out, int value) throws IOException {
 			out.writeI8(value);
 		}
 
 		@Override
-		public Integer decode(DataInputWrapper in) throws IOException {
+		public int decodeInt(DataInputWrapper in) throws IOException {
 			return in.readU8();
 		}
 
+		@Override
+		public int fixedSize() {
+			return 1;
+		}
+
 	};
 
 	public static final Codec<Short> I16 = new Codec<>() {
@@ -118,34 +158,49 @@ public final class Codecs {
 			return in.readI16();
 		}
 
+		@Override
+		public int fixedSize() {
+			return 2;
+		}
+
 	};
 
-	public static final Codec<Integer> U16 = new Codec<>() {
+	public static final IntCodec U16 = new IntCodec() {
 
 		@Override
-		public void encode(DataOutputWrapper out, Integer value) throws IOException {
+		public void encodeInt(DataOutputWrapper out, int value) throws IOException {
 			out.writeI16(value);
 		}
 
 		@Override
-		public Integer decode(DataInputWrapper in) throws IOException {
+		public int decodeInt(DataInputWrapper in) throws IOException {
 			return in.readU16();
 		}
 
+		@Override
+		public int fixedSize() {
+			return 2;
+		}
+
 	};
 
-	public static final Codec<Integer> I32 = new Codec<>() {
+	public static final IntCodec I32 = new IntCodec() {
 
 		@Override
-		public void encode(DataOutputWrapper out, Integer value) throws IOException {
+		public void encodeInt(DataOutputWrapper out, int value) throws IOException {
 			out.writeI32(value);
 		}
 
 		@Override
-		public Integer decode(DataInputWrapper in) throws IOException {
+		public int decodeInt(DataInputWrapper in) throws IOException {
 			return in.readI32();
 		}
 
+		@Override
+		public int fixedSize() {
+			return 4;
+		}
+
 	};
 
 	public static Codec<int[]> fixedI32Array(int length) {
@@ -165,6 +220,11 @@ public final class Codecs {
 				out.writeFixedI32Array(array);
 			}
 
+			@Override
+			public int fixedSize() {
+				return length * 4;
+			}
+
 		};
 	}
 
@@ -175,11 +235,21 @@ public final class Codecs {
 			return in.readDynI32Array();
 		}
 
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynPrimitiveArray(4);
+		}
+
 		@Override
 		public void encode(DataOutputWrapper out, int[] array) throws IOException {
 			out.writeDynI32Array(array);
 		}
 
+		@Override
+		public int encodedSize(int[] array) {
+			return VarNum.sizeOf(array.length) + array.length * 4;
+		}
+
 	};
 
 	public static Codec<int[]> dynI32Array(int maxLength) {
@@ -190,6 +260,11 @@ public final class Codecs {
 				return in.readDynI32Array(maxLength);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynPrimitiveArray(4, maxLength);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, int[] array) throws IOException {
 				if (array.length > maxLength) {
@@ -199,21 +274,31 @@ public final class Codecs {
 				out.writeDynI32Array(array);
 			}
 
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array.length) + array.length * 4;
+			}
+
 		};
 	}
 
-	public static final Codec<Long> I64 = new Codec<>() {
+	public static final LongCodec I64 = new LongCodec() {
 
 		@Override
-		public void encode(DataOutputWrapper out, Long value) throws IOException {
+		public void encodeLong(DataOutputWrapper out, long value) throws IOException {
 			out.writeI64(value);
 		}
 
 		@Override
-		public Long decode(DataInputWrapper in) throws IOException {
+		public long decodeLong(DataInputWrapper in) throws IOException {
 			return in.readI64();
 		}
 
+		@Override
+		public int fixedSize() {
+			return 8;
+		}
+
 	};
 
 	public static Codec<long[]> fixedI64Array(int length) {
@@ -233,6 +318,11 @@ public final class Codecs {
 				out.writeFixedI64Array(array);
 			}
 
+			@Override
+			public int fixedSize() {
+				return length * 8;
+			}
+
 		};
 	}
 
@@ -243,11 +333,21 @@ public final class Codecs {
 			return in.readDynI64Array();
 		}
 
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynPrimitiveArray(8);
+		}
+
 		@Override
 		public void encode(DataOutputWrapper out, long[] array) throws IOException {
 			out.writeDynI64Array(array);
 		}
 
+		@Override
+		public int encodedSize(long[] array) {
+			return VarNum.sizeOf(array.length) + array.length * 8;
+		}
+
 	};
 
 	public static Codec<long[]> dynI64Array(int maxLength) {
@@ -258,6 +358,11 @@ public final class Codecs {
 				return in.readDynI64Array(maxLength);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynPrimitiveArray(8, maxLength);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, long[] array) throws IOException {
 				if (array.length > maxLength) {
@@ -267,21 +372,31 @@ public final class Codecs {
 				out.writeDynI64Array(array);
 			}
 
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOf(array.length) + array.length * 8;
+			}
+
 		};
 	}
 
-	public static final Codec<Integer> VAR32 = new Codec<>() {
+	public static final IntCodec VAR32 = new IntCodec() {
 
 		@Override
-		public void encode(DataOutputWrapper out, Integer value) throws IOException {
+		public void encodeInt(DataOutputWrapper out, int value) throws IOException {
 			out.writeVar32(value);
 		}
 
 		@Override
-		public Integer decode(DataInputWrapper in) throws IOException {
+		public int decodeInt(DataInputWrapper in) throws IOException {
 			return in.readVar32();
 		}
 
+		@Override
+		public int encodedIntSize(int value) {
+			return VarNum.sizeOf(value);
+		}
+
 	};
 
 	public static Codec<int[]> fixedVar32Array(int length) {
@@ -292,6 +407,11 @@ public final class Codecs {
 				return in.readFixedVar32Array(length);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedVarArray(length);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, int[] array) throws IOException {
 				if (array.length != length) {
@@ -301,6 +421,11 @@ public final class Codecs {
 				out.writeFixedVar32Array(array);
 			}
 
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array);
+			}
+
 		};
 	}
 
@@ -311,11 +436,21 @@ public final class Codecs {
 			return in.readDynVar32Array();
 		}
 
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynVarArray();
+		}
+
 		@Override
 		public void encode(DataOutputWrapper out, int[] array) throws IOException {
 			out.writeDynVar32Array(array);
 		}
 
+		@Override
+		public int encodedSize(int[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOf(array);
+		}
+
 	};
 
 	public static Codec<int[]> dynVar32Array(int maxLength) {
@@ -326,6 +461,11 @@ public final class Codecs {
 				return in.readDynVar32Array(maxLength);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynVarArray(maxLength);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, int[] array) throws IOException {
 				if (array.length > maxLength) {
@@ -335,21 +475,31 @@ public final class Codecs {
 				out.writeDynVar32Array(array);
 			}
 
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOf(array);
+			}
+
 		};
 	}
 
-	public static final Codec<Long> VAR64 = new Codec<>() {
+	public static final LongCodec VAR64 = new LongCodec() {
 
 		@Override
-		public void encode(DataOutputWrapper out, Long value) throws IOException {
+		public void encodeLong(DataOutputWrapper out, long value) throws IOException {
 			out.writeVar64(value);
 		}
 
 		@Override
-		public Long decode(DataInputWrapper in) throws IOException {
+		public long decodeLong(DataInputWrapper in) throws IOException {
 			return in.readVar64();
 		}
 
+		@Override
+		public int encodedLongSize(long value) {
+			return VarNum.sizeOf(value);
+		}
+
 	};
 
 	public static Codec<long[]> fixedVar64Array(int length) {
@@ -360,6 +510,11 @@ public final class Codecs {
 				return in.readFixedVar64Array(length);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedVarArray(length);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, long[] array) throws IOException {
 				if (array.length != length) {
@@ -369,6 +524,11 @@ public final class Codecs {
 				out.writeFixedVar64Array(array);
 			}
 
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOf(array);
+			}
+
 		};
 	}
 
@@ -379,11 +539,21 @@ public final class Codecs {
 			return in.readDynVar64Array();
 		}
 
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynVarArray();
+		}
+
 		@Override
 		public void encode(DataOutputWrapper out, long[] array) throws IOException {
 			out.writeDynVar64Array(array);
 		}
 
+		@Override
+		public int encodedSize(long[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOf(array);
+		}
+
 	};
 
 	public static Codec<long[]> dynVar64Array(int maxLength) {
@@ -394,6 +564,11 @@ public final class Codecs {
 				return in.readDynVar64Array(maxLength);
 			}
 
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynVarArray(maxLength);
+			}
+
 			@Override
 			public void encode(DataOutputWrapper out, long[] array) throws IOException {
 				if (array.length > maxLength) {
@@ -403,124 +578,1126 @@ public final class Codecs {
 				out.writeDynVar64Array(array);
 			}
 
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOf(array);
+			}
+
 		};
 	}
 
-	public static final Codec<Float> F32 = new Codec<>() {
+	public static final IntCodec SVAR32 = new IntCodec() {
 
 		@Override
-		public void encode(DataOutputWrapper out, Float value) throws IOException {
-			out.writeF32(value);
+		public void encodeInt(DataOutputWrapper out, int value) throws IOException {
+			out.writeSVar32(value);
 		}
 
 		@Override
-		public Float decode(DataInputWrapper in) throws IOException {
-			return in.readF32();
+		public int decodeInt(DataInputWrapper in) throws IOException {
+			return in.readSVar32();
+		}
+
+		@Override
+		public int encodedIntSize(int value) {
+			return VarNum.sizeOfSigned(value);
 		}
 
 	};
 
-	public static final Codec<Double> F64 = new Codec<>() {
+	public static Codec<int[]> fixedSVar32Array(int length) {
+		return new Codec<>() {
 
-		@Override
-		public void encode(DataOutputWrapper out, Double value) throws IOException {
-			out.writeF64(value);
-		}
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedSVar32Array(length);
+			}
 
-		@Override
-		public Double decode(DataInputWrapper in) throws IOException {
-			return in.readF64();
-		}
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedVarArray(length);
+			}
 
-	};
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
 
-	public static final Codec<String> UTF8 = new Codec<>() {
+				out.writeFixedSVar32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOfSigned(array);
+			}
+
+		};
+	}
+
+	public static final Codec<int[]> DYN_SVAR32_ARRAY = new Codec<>() {
 
 		@Override
-		public void encode(DataOutputWrapper out, String value) throws IOException {
-			out.writeUTF8(value);
+		public int[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynSVar32Array();
 		}
 
 		@Override
-		public String decode(DataInputWrapper in) throws IOException {
-			return in.readUTF8();
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynVarArray();
 		}
 
-	};
-
-	public static final Codec<UUID> UUID = new Codec<>() {
-
 		@Override
-		public UUID decode(DataInputWrapper in) throws IOException {
-			return in.readUUID();
+		public void encode(DataOutputWrapper out, int[] array) throws IOException {
+			out.writeDynSVar32Array(array);
 		}
 
 		@Override
-		public void encode(DataOutputWrapper out, UUID value) throws IOException {
-			out.writeUUID(value);
+		public int encodedSize(int[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOfSigned(array);
 		}
 
 	};
 
-	public static <T extends Enum<T>> Codec<T> createEnum(Class<T> clazz) {
+	public static Codec<int[]> dynSVar32Array(int maxLength) {
 		return new Codec<>() {
 
 			@Override
-			public T decode(DataInputWrapper in) throws IOException {
-				return in.readEnum(clazz);
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynSVar32Array(maxLength);
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, T value) throws IOException {
-				out.writeEnum(value);
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynVarArray(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynSVar32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOfSigned(array);
 			}
 
 		};
 	}
 
-	public static <T> Codec<T> createIntIdentifiable(IntFunction<T> valueGetter, ToIntFunction<T> idGetter) {
+	public static final LongCodec SVAR64 = new LongCodec() {
+
+		@Override
+		public void encodeLong(DataOutputWrapper out, long value) throws IOException {
+			out.writeSVar64(value);
+		}
+
+		@Override
+		public long decodeLong(DataInputWrapper in) throws IOException {
+			return in.readSVar64();
+		}
+
+		@Override
+		public int encodedLongSize(long value) {
+			return VarNum.sizeOfSigned(value);
+		}
+
+	};
+
+	public static Codec<long[]> fixedSVar64Array(int length) {
 		return new Codec<>() {
 
 			@Override
-			public T decode(DataInputWrapper in) throws IOException {
-				return in.readId(valueGetter);
+			public long[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedSVar64Array(length);
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, T value) throws IOException {
-				out.writeId(value, idGetter);
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedVarArray(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, long[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedSVar64Array(array);
+			}
+
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOfSigned(array);
 			}
 
 		};
 	}
 
-	public static <T> Codec<T> createIntIdentifiable(T[] constants, ToIntFunction<T> idGetter) {
+	public static final Codec<long[]> DYN_SVAR64_ARRAY = new Codec<>() {
+
+		@Override
+		public long[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynSVar64Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynVarArray();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, long[] array) throws IOException {
+			out.writeDynSVar64Array(array);
+		}
+
+		@Override
+		public int encodedSize(long[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOfSigned(array);
+		}
+
+	};
+
+	public static Codec<long[]> dynSVar64Array(int maxLength) {
 		return new Codec<>() {
 
 			@Override
-			public T decode(DataInputWrapper in) throws IOException {
-				return in.readId(constants);
+			public long[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynSVar64Array(maxLength);
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, T value) throws IOException {
-				out.writeId(value, idGetter);
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynVarArray(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, long[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynSVar64Array(array);
+			}
+
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOfSigned(array);
 			}
 
 		};
 	}
 
-	public static <T extends IntIdentifiable> Codec<T> createIntIdentifiable(T[] constants) {
+	public static final IntCodec PREFIX_VAR32 = new IntCodec() {
+
+		@Override
+		public void encodeInt(DataOutputWrapper out, int value) throws IOException {
+			out.writePrefixVar32(value);
+		}
+
+		@Override
+		public int decodeInt(DataInputWrapper in) throws IOException {
+			return in.readPrefixVar32();
+		}
+
+		@Override
+		public int encodedIntSize(int value) {
+			return VarNum.sizeOfPrefix(value);
+		}
+
+	};
+
+	public static Codec<int[]> fixedPrefixVar32Array(int length) {
 		return new Codec<>() {
 
 			@Override
-			public T decode(DataInputWrapper in) throws IOException {
-				return in.readId(constants);
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedPrefixVar32Array(length);
 			}
 
 			@Override
-			public void encode(DataOutputWrapper out, T value) throws IOException {
-				out.writeId(value);
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedPrefixVarArray(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedPrefixVar32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOfPrefix(array);
+			}
+
+		};
+	}
+
+	public static final Codec<int[]> DYN_PREFIX_VAR32_ARRAY = new Codec<>() {
+
+		@Override
+		public int[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynPrefixVar32Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynPrefixVarArray();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, int[] array) throws IOException {
+			out.writeDynPrefixVar32Array(array);
+		}
+
+		@Override
+		public int encodedSize(int[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOfPrefix(array);
+		}
+
+	};
+
+	public static Codec<int[]> dynPrefixVar32Array(int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynPrefixVar32Array(maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynPrefixVarArray(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynPrefixVar32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOfPrefix(array);
+			}
+
+		};
+	}
+
+	public static final LongCodec PREFIX_VAR64 = new LongCodec() {
+
+		@Override
+		public void encodeLong(DataOutputWrapper out, long value) throws IOException {
+			out.writePrefixVar64(value);
+		}
+
+		@Override
+		public long decodeLong(DataInputWrapper in) throws IOException {
+			return in.readPrefixVar64();
+		}
+
+		@Override
+		public int encodedLongSize(long value) {
+			return VarNum.sizeOfPrefix(value);
+		}
+
+	};
+
+	public static Codec<long[]> fixedPrefixVar64Array(int length) {
+		return new Codec<>() {
+
+			@Override
+			public long[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedPrefixVar64Array(length);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedPrefixVarArray(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, long[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedPrefixVar64Array(array);
+			}
+
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOfPrefix(array);
+			}
+
+		};
+	}
+
+	public static final Codec<long[]> DYN_PREFIX_VAR64_ARRAY = new Codec<>() {
+
+		@Override
+		public long[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynPrefixVar64Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynPrefixVarArray();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, long[] array) throws IOException {
+			out.writeDynPrefixVar64Array(array);
+		}
+
+		@Override
+		public int encodedSize(long[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOfPrefix(array);
+		}
+
+	};
+
+	public static Codec<long[]> dynPrefixVar64Array(int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public long[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynPrefixVar64Array(maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynPrefixVarArray(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, long[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynPrefixVar64Array(array);
+			}
+
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOfPrefix(array);
+			}
+
+		};
+	}
+
+	public static Codec<int[]> fixedDeltaI32Array(int length) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedDeltaI32Array(length);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedVarArray(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedDeltaI32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOfDeltas(array);
+			}
+
+		};
+	}
+
+	public static final Codec<int[]> DYN_DELTA_I32_ARRAY = new Codec<>() {
+
+		@Override
+		public int[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynDeltaI32Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynVarArray();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, int[] array) throws IOException {
+			out.writeDynDeltaI32Array(array);
+		}
+
+		@Override
+		public int encodedSize(int[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOfDeltas(array);
+		}
+
+	};
+
+	public static Codec<int[]> dynDeltaI32Array(int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynDeltaI32Array(maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynVarArray(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynDeltaI32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOfDeltas(array);
+			}
+
+		};
+	}
+
+	public static Codec<int[]> fixedDoubleDeltaI32Array(int length) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedDoubleDeltaI32Array(length);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedVarArray(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedDoubleDeltaI32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOfDoubleDeltas(array);
+			}
+
+		};
+	}
+
+	public static final Codec<int[]> DYN_DOUBLE_DELTA_I32_ARRAY = new Codec<>() {
+
+		@Override
+		public int[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynDoubleDeltaI32Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynVarArray();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, int[] array) throws IOException {
+			out.writeDynDoubleDeltaI32Array(array);
+		}
+
+		@Override
+		public int encodedSize(int[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOfDoubleDeltas(array);
+		}
+
+	};
+
+	public static Codec<int[]> dynDoubleDeltaI32Array(int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynDoubleDeltaI32Array(maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynVarArray(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynDoubleDeltaI32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOfDoubleDeltas(array);
+			}
+
+		};
+	}
+
+	public static Codec<int[]> fixedStreamVar32Array(int length) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedStreamVar32Array(length);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedStreamVar32Array(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedStreamVar32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return StreamVByte.sizeOf(array);
+			}
+
+		};
+	}
+
+	public static final Codec<int[]> DYN_STREAM_VAR32_ARRAY = new Codec<>() {
+
+		@Override
+		public int[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynStreamVar32Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynStreamVar32Array();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, int[] array) throws IOException {
+			out.writeDynStreamVar32Array(array);
+		}
+
+		@Override
+		public int encodedSize(int[] array) {
+			return VarNum.sizeOf(array.length) + StreamVByte.sizeOf(array);
+		}
+
+	};
+
+	public static Codec<int[]> dynStreamVar32Array(int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynStreamVar32Array(maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynStreamVar32Array(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynStreamVar32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array.length) + StreamVByte.sizeOf(array);
+			}
+
+		};
+	}
+
+	public static Codec<int[]> fixedPackedI32Array(int length) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedPackedI32Array(length);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedPackedI32Array(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedPackedI32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return BitPacking.sizeOf(array);
+			}
+
+		};
+	}
+
+	public static final Codec<int[]> DYN_PACKED_I32_ARRAY = new Codec<>() {
+
+		@Override
+		public int[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynPackedI32Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynPackedI32Array();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, int[] array) throws IOException {
+			out.writeDynPackedI32Array(array);
+		}
+
+		@Override
+		public int encodedSize(int[] array) {
+			return VarNum.sizeOf(array.length) + BitPacking.sizeOf(array);
+		}
+
+	};
+
+	public static Codec<int[]> dynPackedI32Array(int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public int[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynPackedI32Array(maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynPackedI32Array(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, int[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynPackedI32Array(array);
+			}
+
+			@Override
+			public int encodedSize(int[] array) {
+				return VarNum.sizeOf(array.length) + BitPacking.sizeOf(array);
+			}
+
+		};
+	}
+
+	public static Codec<long[]> fixedDeltaI64Array(int length) {
+		return new Codec<>() {
+
+			@Override
+			public long[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedDeltaI64Array(length);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedVarArray(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, long[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedDeltaI64Array(array);
+			}
+
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOfDeltas(array);
+			}
+
+		};
+	}
+
+	public static final Codec<long[]> DYN_DELTA_I64_ARRAY = new Codec<>() {
+
+		@Override
+		public long[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynDeltaI64Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynVarArray();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, long[] array) throws IOException {
+			out.writeDynDeltaI64Array(array);
+		}
+
+		@Override
+		public int encodedSize(long[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOfDeltas(array);
+		}
+
+	};
+
+	public static Codec<long[]> dynDeltaI64Array(int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public long[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynDeltaI64Array(maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynVarArray(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, long[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynDeltaI64Array(array);
+			}
+
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOfDeltas(array);
+			}
+
+		};
+	}
+
+	public static Codec<long[]> fixedDoubleDeltaI64Array(int length) {
+		return new Codec<>() {
+
+			@Override
+			public long[] decode(DataInputWrapper in) throws IOException {
+				return in.readFixedDoubleDeltaI64Array(length);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipFixedVarArray(length);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, long[] array) throws IOException {
+				if (array.length != length) {
+					throw new MismatchedLengthException(length, array.length);
+				}
+
+				out.writeFixedDoubleDeltaI64Array(array);
+			}
+
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOfDoubleDeltas(array);
+			}
+
+		};
+	}
+
+	public static final Codec<long[]> DYN_DOUBLE_DELTA_I64_ARRAY = new Codec<>() {
+
+		@Override
+		public long[] decode(DataInputWrapper in) throws IOException {
+			return in.readDynDoubleDeltaI64Array();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipDynVarArray();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, long[] array) throws IOException {
+			out.writeDynDoubleDeltaI64Array(array);
+		}
+
+		@Override
+		public int encodedSize(long[] array) {
+			return VarNum.sizeOf(array.length) + VarNum.sizeOfDoubleDeltas(array);
+		}
+
+	};
+
+	public static Codec<long[]> dynDoubleDeltaI64Array(int maxLength) {
+		return new Codec<>() {
+
+			@Override
+			public long[] decode(DataInputWrapper in) throws IOException {
+				return in.readDynDoubleDeltaI64Array(maxLength);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipDynVarArray(maxLength);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, long[] array) throws IOException {
+				if (array.length > maxLength) {
+					throw new MismatchedLengthException(0, maxLength, array.length);
+				}
+
+				out.writeDynDoubleDeltaI64Array(array);
+			}
+
+			@Override
+			public int encodedSize(long[] array) {
+				return VarNum.sizeOf(array.length) + VarNum.sizeOfDoubleDeltas(array);
+			}
+
+		};
+	}
+
+	public static final FloatCodec F32 = new FloatCodec() {
+
+		@Override
+		public void encodeFloat(DataOutputWrapper out, float value) throws IOException {
+			out.writeF32(value);
+		}
+
+		@Override
+		public float decodeFloat(DataInputWrapper in) throws IOException {
+			return in.readF32();
+		}
+
+		@Override
+		public int fixedSize() {
+			return 4;
+		}
+
+	};
+
+	public static final DoubleCodec F64 = new DoubleCodec() {
+
+		@Override
+		public void encodeDouble(DataOutputWrapper out, double value) throws IOException {
+			out.writeF64(value);
+		}
+
+		@Override
+		public double decodeDouble(DataInputWrapper in) throws IOException {
+			return in.readF64();
+		}
+
+		@Override
+		public int fixedSize() {
+			return 8;
+		}
+
+	};
+
+	public static final Codec<String> UTF8 = new Codec<>() {
+
+		@Override
+		public void encode(DataOutputWrapper out, String value) throws IOException {
+			out.writeUTF8(value);
+		}
+
+		@Override
+		public String decode(DataInputWrapper in) throws IOException {
+			return in.readUTF8();
+		}
+
+		@Override
+		public void skip(DataInputWrapper in) throws IOException {
+			in.skipUTF8();
+		}
+
+		@Override
+		public int encodedSize(String value) {
+			int length = Utf8.encodedLength(value);
+			return VarNum.sizeOf(length) + length;
+		}
+
+	};
+
+	// UTF8 that returns the same String instance for repeated strings while they stay in cache
+	public static Codec<String> cachedUTF8(Utf8Cache cache) {
+		return new Codec<>() {
+
+			@Override
+			public void encode(DataOutputWrapper out, String value) throws IOException {
+				out.writeUTF8(value);
+			}
+
+			@Override
+			public String decode(DataInputWrapper in) throws IOException {
+				return in.readUTF8(cache);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				in.skipUTF8();
+			}
+
+			@Override
+			public int encodedSize(String value) {
+				int length = Utf8.encodedLength(value);
+				return VarNum.sizeOf(length) + length;
+			}
+
+		};
+	}
+
+	public static final Codec<UUID> UUID = new Codec<>() {
+
+		@Override
+		public UUID decode(DataInputWrapper in) throws IOException {
+			return in.readUUID();
+		}
+
+		@Override
+		public void encode(DataOutputWrapper out, UUID value) throws IOException {
+			out.writeUUID(value);
+		}
+
+		@Override
+		public int fixedSize() {
+			return 16;
+		}
+
+	};
+
+	public static <T extends Enum<T>> Codec<T> createEnum(Class<T> clazz) {
+		IdTable<T> table = IdTable.of(clazz.getName(), clazz.getEnumConstants(), Enum::ordinal);
+
+		return new Codec<>() {
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				return table.get(in.readVar32());
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				out.writeEnum(value);
+			}
+
+			@Override
+			public int encodedSize(T value) {
+				return VarNum.sizeOf(value.ordinal());
+			}
+
+		};
+	}
+
+	public static <T> Codec<T> createIntIdentifiable(IntFunction<T> valueGetter, ToIntFunction<T> idGetter) {
+		return new Codec<>() {
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				return in.readId(valueGetter);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				out.writeId(value, idGetter);
+			}
+
+			@Override
+			public int encodedSize(T value) {
+				return VarNum.sizeOf(idGetter.applyAsInt(value));
+			}
+
+		};
+	}
+
+	// The constants can be in any order, ids do not have to be dense
+	public static <T> Codec<T> createIntIdentifiable(T[] constants, ToIntFunction<T> idGetter) {
+		IdTable<T> table = IdTable.of(constants.getClass().getComponentType().getName(), constants, idGetter);
+
+		return new Codec<>() {
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				return table.get(in.readVar32());
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				out.writeId(value, idGetter);
+			}
+
+			@Override
+			public int encodedSize(T value) {
+				return VarNum.sizeOf(idGetter.applyAsInt(value));
+			}
+
+		};
+	}
+
+	public static <T extends IntIdentifiable> Codec<T> createIntIdentifiable(T[] constants) {
+		IdTable<T> table = IdTable.of(constants.getClass().getComponentType().getName(), constants, IntIdentifiable::getIntId);
+
+		return new Codec<>() {
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				return table.get(in.readVar32());
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				out.writeId(value);
+			}
+
+			@Override
+			public int encodedSize(T value) {
+				return VarNum.sizeOf(value.getIntId());
 			}
 
 		};
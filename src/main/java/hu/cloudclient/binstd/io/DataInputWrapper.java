@@ -1,13 +1,14 @@
 package hu.cloudclient.binstd.io;
 
-import com.google.common.io.ByteStreams;
 import hu.cloudclient.binstd.exception.MismatchedLengthException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.DataInput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -17,12 +18,25 @@ import java.util.function.IntFunction;
 @SuppressWarnings("DeprecatedIsStillUsed")
 public final class DataInputWrapper implements DataInput {
 
+	// getEnumConstants clones the array on every call
+	private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<>() {
+
+		@Override
+		protected Object[] computeValue(Class<?> type) {
+			return type.getEnumConstants();
+		}
+
+	};
+
 	private final DataInput delegate;
+	@Nullable
+	private final InputBuffer buffer;
 	public final Config config;
-	private int bytesRead = 0;
+	private long bytesRead = 0;
 
 	public DataInputWrapper(DataInput delegate, Config config) {
 		this.delegate = delegate;
+		this.buffer = delegate instanceof InputBuffer inputBuffer ? inputBuffer : null;
 		this.config = config;
 	}
 
@@ -31,15 +45,23 @@ public final class DataInputWrapper implements DataInput {
 	}
 
 	public DataInputWrapper(byte[] data, Config config) {
-		this(ByteStreams.newDataInput(data), config);
+		this(new InputBuffer(data), config);
 	}
 
 	public DataInputWrapper(byte[] data) {
-		this(ByteStreams.newDataInput(data), Config.UNRESTRICTED);
+		this(new InputBuffer(data), Config.UNRESTRICTED);
+	}
+
+	public DataInputWrapper(ByteBuffer data, Config config) {
+		this(new InputBuffer(data), config);
+	}
+
+	public DataInputWrapper(ByteBuffer data) {
+		this(new InputBuffer(data), Config.UNRESTRICTED);
 	}
 
-	public int bytesRead() {
-		return bytesRead;
+	public long bytesRead() {
+		return buffer != null ? buffer.bytesRead() : bytesRead;
 	}
 
 	private static int validate(int actual, int max) throws MismatchedLengthException {
@@ -79,6 +101,10 @@ public final class DataInputWrapper implements DataInput {
 	}
 
 	public int readVar32() throws IOException {
+		if (buffer != null) {
+			return buffer.readVar32();
+		}
+
 		for (int value = 0, pos = 0;; pos += 7) {
 			byte b = readByte();
 			value |= (b & 0b01111111) << pos;
@@ -94,6 +120,10 @@ public final class DataInputWrapper implements DataInput {
 	}
 
 	public long readVar64() throws IOException {
+		if (buffer != null) {
+			return buffer.readVar64();
+		}
+
 		long value = 0;
 		for (int pos = 0;; pos += 7) {
 			byte b = readByte();
@@ -109,6 +139,45 @@ public final class DataInputWrapper implements DataInput {
 		}
 	}
 
+	public int readPrefixVar32() throws IOException {
+		long value = readPrefixVar64();
+
+		if (value >>> 32 != 0) {
+			throw new IOException("prefix var32 too big");
+		}
+
+		return (int) value;
+	}
+
+	public long readPrefixVar64() throws IOException {
+		if (buffer != null) {
+			return buffer.readPrefixVar64();
+		}
+
+		int first = readUnsignedByte();
+		int length = VarNum.prefixLength(first);
+
+		if (length == 9) {
+			return readLong();
+		}
+
+		long value = first & 0xFF >>> length;
+
+		for (int i = 1; i < length; i++) {
+			value = value << 8 | readUnsignedByte();
+		}
+
+		return value;
+	}
+
+	public int readSVar32() throws IOException {
+		return VarNum.unZigZag(readVar32());
+	}
+
+	public long readSVar64() throws IOException {
+		return VarNum.unZigZag(readVar64());
+	}
+
 	public float readF32() throws IOException {
 		return readFloat();
 	}
@@ -118,26 +187,43 @@ public final class DataInputWrapper implements DataInput {
 	}
 
 	public String readUTF8() throws IOException {
-		return new String(readFixedI8Array(validate(readVar32(), config.maxUTF8Size)), StandardCharsets.UTF_8);
+		return readUTF8(config.maxUTF8Size);
 	}
 
 	public String readUTF8(int maxSize) throws IOException {
-		return new String(readFixedI8Array(validate(readVar32(), maxSize)), StandardCharsets.UTF_8);
+		int size = validate(readVar32(), maxSize);
+
+		if (buffer != null) {
+			return buffer.readUTF8(size);
+		}
+
+		return new String(readFixedI8Array(size), StandardCharsets.UTF_8);
+	}
+
+	public String readUTF8(Utf8Cache cache) throws IOException {
+		int size = validate(readVar32(), config.maxUTF8Size);
+
+		if (buffer != null) {
+			return buffer.readUTF8(size, cache);
+		}
+
+		return cache.get(readFixedI8Array(size), 0, size);
 	}
 
 	public UUID readUUID() throws IOException {
 		return new UUID(readLong(), readLong());
 	}
 
+	@SuppressWarnings("unchecked")
 	public <T extends Enum<T>> T readEnum(Class<T> clazz) throws IOException {
 		int ordinal = readVar32();
-		T[] constants = clazz.getEnumConstants();
+		T[] constants = (T[]) ENUM_CONSTANTS.get(clazz);
 
 		if (constants == null) {
 			throw new IOException("class not enum: " + clazz.getName());
 		}
 
-		if (ordinal < 0 || ordinal > constants.length) {
+		if (ordinal < 0 || ordinal >= constants.length) {
 			throw new IOException("enum ordinal " + ordinal + " for class " + clazz.getName() + " is out of bounds");
 		}
 
@@ -152,7 +238,7 @@ public final class DataInputWrapper implements DataInput {
 	public <T> T readId(T[] constants) throws IOException {
 		int id = readVar32();
 
-		if (id < 0 || id > constants.length) {
+		if (id < 0 || id >= constants.length || constants[id] == null) {
 			throw new IOException("id " + id + " is out of bounds");
 		}
 
@@ -216,6 +302,10 @@ public final class DataInputWrapper implements DataInput {
 	}
 
 	public byte[] readFixedI8Array(int length) throws IOException {
+		if (buffer != null) {
+			buffer.ensure(length);
+		}
+
 		byte[] bytes = new byte[length];
 		readFully(bytes);
 		return bytes;
@@ -230,6 +320,10 @@ public final class DataInputWrapper implements DataInput {
 	}
 
 	public int[] readFixedI32Array(int length) throws IOException {
+		if (buffer != null) {
+			return buffer.readI32s(length);
+		}
+
 		int[] ints = new int[length];
 
 		for (int i = 0; i < length; i++) {
@@ -266,6 +360,10 @@ public final class DataInputWrapper implements DataInput {
 	}
 
 	public long[] readFixedI64Array(int length) throws IOException {
+		if (buffer != null) {
+			return buffer.readI64s(length);
+		}
+
 		long[] longs = new long[length];
 
 		for (int i = 0; i < length; i++) {
@@ -301,6 +399,225 @@ public final class DataInputWrapper implements DataInput {
 		return readFixedVar64Array(validate(readVar32(), maxLength));
 	}
 
+	public int[] readFixedPrefixVar32Array(int length) throws IOException {
+		int[] ints = new int[length];
+
+		for (int i = 0; i < length; i++) {
+			ints[i] = readPrefixVar32();
+		}
+
+		return ints;
+	}
+
+	public int[] readDynPrefixVar32Array() throws IOException {
+		return readFixedPrefixVar32Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public int[] readDynPrefixVar32Array(int maxLength) throws IOException {
+		return readFixedPrefixVar32Array(validate(readVar32(), maxLength));
+	}
+
+	public long[] readFixedPrefixVar64Array(int length) throws IOException {
+		long[] longs = new long[length];
+
+		for (int i = 0; i < length; i++) {
+			longs[i] = readPrefixVar64();
+		}
+
+		return longs;
+	}
+
+	public long[] readDynPrefixVar64Array() throws IOException {
+		return readFixedPrefixVar64Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public long[] readDynPrefixVar64Array(int maxLength) throws IOException {
+		return readFixedPrefixVar64Array(validate(readVar32(), maxLength));
+	}
+
+	public int[] readFixedSVar32Array(int length) throws IOException {
+		int[] ints = new int[length];
+
+		for (int i = 0; i < length; i++) {
+			ints[i] = readSVar32();
+		}
+
+		return ints;
+	}
+
+	public int[] readDynSVar32Array() throws IOException {
+		return readFixedSVar32Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public int[] readDynSVar32Array(int maxLength) throws IOException {
+		return readFixedSVar32Array(validate(readVar32(), maxLength));
+	}
+
+	public long[] readFixedSVar64Array(int length) throws IOException {
+		long[] longs = new long[length];
+
+		for (int i = 0; i < length; i++) {
+			longs[i] = readSVar64();
+		}
+
+		return longs;
+	}
+
+	public long[] readDynSVar64Array() throws IOException {
+		return readFixedSVar64Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public long[] readDynSVar64Array(int maxLength) throws IOException {
+		return readFixedSVar64Array(validate(readVar32(), maxLength));
+	}
+
+	public int[] readFixedDeltaI32Array(int length) throws IOException {
+		int[] ints = new int[length];
+		int value = 0;
+
+		for (int i = 0; i < length; i++) {
+			value += readSVar32();
+			ints[i] = value;
+		}
+
+		return ints;
+	}
+
+	public int[] readDynDeltaI32Array() throws IOException {
+		return readFixedDeltaI32Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public int[] readDynDeltaI32Array(int maxLength) throws IOException {
+		return readFixedDeltaI32Array(validate(readVar32(), maxLength));
+	}
+
+	public int[] readFixedDoubleDeltaI32Array(int length) throws IOException {
+		int[] ints = new int[length];
+
+		if (length == 0) {
+			return ints;
+		}
+
+		int value = readSVar32();
+		int delta = 0;
+		ints[0] = value;
+
+		for (int i = 1; i < length; i++) {
+			delta += readSVar32();
+			value += delta;
+			ints[i] = value;
+		}
+
+		return ints;
+	}
+
+	public int[] readDynDoubleDeltaI32Array() throws IOException {
+		return readFixedDoubleDeltaI32Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public int[] readDynDoubleDeltaI32Array(int maxLength) throws IOException {
+		return readFixedDoubleDeltaI32Array(validate(readVar32(), maxLength));
+	}
+
+	public int[] readFixedStreamVar32Array(int length) throws IOException {
+		int[] ints = new int[length];
+
+		if (buffer != null) {
+			buffer.readStreamVByte(ints);
+			return ints;
+		}
+
+		byte[] controls = readFixedI8Array(StreamVByte.controlSize(length));
+		byte[] bytes = Arrays.copyOf(controls, controls.length + StreamVByte.dataSize(controls, 0, length));
+		readFully(bytes, controls.length, bytes.length - controls.length);
+		StreamVByte.decode(bytes, 0, ints);
+		return ints;
+	}
+
+	public int[] readDynStreamVar32Array() throws IOException {
+		return readFixedStreamVar32Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public int[] readDynStreamVar32Array(int maxLength) throws IOException {
+		return readFixedStreamVar32Array(validate(readVar32(), maxLength));
+	}
+
+	public int[] readFixedPackedI32Array(int length) throws IOException {
+		int[] ints = new int[length];
+		byte[] block = new byte[BitPacking.MAX_BLOCK_BYTES];
+
+		for (int offset = 0; offset < length; offset += BitPacking.BLOCK_SIZE) {
+			int count = Math.min(BitPacking.BLOCK_SIZE, length - offset);
+			int min = readSVar32();
+			int width = readU8();
+
+			if (width > 32) {
+				throw new IOException("bit width " + width + " is too big");
+			}
+
+			readFully(block, 0, BitPacking.packedSize(count, width));
+			BitPacking.unpack(block, ints, offset, count, min, width);
+		}
+
+		return ints;
+	}
+
+	public int[] readDynPackedI32Array() throws IOException {
+		return readFixedPackedI32Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public int[] readDynPackedI32Array(int maxLength) throws IOException {
+		return readFixedPackedI32Array(validate(readVar32(), maxLength));
+	}
+
+	public long[] readFixedDeltaI64Array(int length) throws IOException {
+		long[] longs = new long[length];
+		long value = 0;
+
+		for (int i = 0; i < length; i++) {
+			value += readSVar64();
+			longs[i] = value;
+		}
+
+		return longs;
+	}
+
+	public long[] readDynDeltaI64Array() throws IOException {
+		return readFixedDeltaI64Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public long[] readDynDeltaI64Array(int maxLength) throws IOException {
+		return readFixedDeltaI64Array(validate(readVar32(), maxLength));
+	}
+
+	public long[] readFixedDoubleDeltaI64Array(int length) throws IOException {
+		long[] longs = new long[length];
+
+		if (length == 0) {
+			return longs;
+		}
+
+		long value = readSVar64();
+		long delta = 0;
+		longs[0] = value;
+
+		for (int i = 1; i < length; i++) {
+			delta += readSVar64();
+			value += delta;
+			longs[i] = value;
+		}
+
+		return longs;
+	}
+
+	public long[] readDynDoubleDeltaI64Array() throws IOException {
+		return readFixedDoubleDeltaI64Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public long[] readDynDoubleDeltaI64Array(int maxLength) throws IOException {
+		return readFixedDoubleDeltaI64Array(validate(readVar32(), maxLength));
+	}
+
 	public <K, V, M extends Map<K, V>> M readFixedMap(IntFunction<M> mapFactory, Decoder<K> keyDecoder, Decoder<V> valueDecoder, int size) throws IOException {
 		M map = mapFactory.apply(size);
 
@@ -321,6 +638,156 @@ public final class DataInputWrapper implements DataInput {
 		return readFixedMap(mapFactory, keyDecoder, valueDecoder, validate(readVar32(), maxSize));
 	}
 
+	// Unlike skipBytes, fails if less than n bytes remain
+	public void skipFully(long n) throws IOException {
+		if (buffer != null) {
+			buffer.ensure(n);
+			buffer.position(buffer.position() + n);
+			return;
+		}
+
+		while (n > 0) {
+			int skipped = delegate.skipBytes((int) Math.min(n, Integer.MAX_VALUE));
+
+			// skipBytes may give up early, a read tells the end of input apart from that
+			if (skipped <= 0) {
+				delegate.readByte();
+				skipped = 1;
+			}
+
+			bytesRead += skipped;
+			n -= skipped;
+		}
+	}
+
+	public void skipUTF8() throws IOException {
+		skipFully(validate(readVar32(), config.maxUTF8Size));
+	}
+
+	public void skipUTF8(int maxSize) throws IOException {
+		skipFully(validate(readVar32(), maxSize));
+	}
+
+	public void skipNullable(Decoder<?> decoder) throws IOException {
+		if (readBoolean()) {
+			decoder.skip(this);
+		}
+	}
+
+	public void skipFixedArray(Decoder<?> decoder, int length) throws IOException {
+		// Elements of a fixed size are skipped in one go
+		if (decoder instanceof Encoder<?> encoder && encoder.fixedSize() != Encoder.VARIABLE_SIZE) {
+			skipFully((long) encoder.fixedSize() * length);
+			return;
+		}
+
+		for (int i = 0; i < length; i++) {
+			decoder.skip(this);
+		}
+	}
+
+	public void skipDynArray(Decoder<?> decoder) throws IOException {
+		skipFixedArray(decoder, validate(readVar32(), config.maxArrayLength));
+	}
+
+	public void skipDynArray(Decoder<?> decoder, int maxLength) throws IOException {
+		skipFixedArray(decoder, validate(readVar32(), maxLength));
+	}
+
+	// Dyn arrays of primitives with elementSize bytes each
+	public void skipDynPrimitiveArray(int elementSize) throws IOException {
+		skipFully((long) validate(readVar32(), config.maxArrayLength) * elementSize);
+	}
+
+	public void skipDynPrimitiveArray(int elementSize, int maxLength) throws IOException {
+		skipFully((long) validate(readVar32(), maxLength) * elementSize);
+	}
+
+	public void skipFixedVarArray(int length) throws IOException {
+		for (int i = 0; i < length; i++) {
+			readVar64();
+		}
+	}
+
+	public void skipDynVarArray() throws IOException {
+		skipFixedVarArray(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public void skipDynVarArray(int maxLength) throws IOException {
+		skipFixedVarArray(validate(readVar32(), maxLength));
+	}
+
+	// Prefix var-ints of both widths, the first byte of every value gives its length
+	public void skipFixedPrefixVarArray(int length) throws IOException {
+		for (int i = 0; i < length; i++) {
+			skipFully(VarNum.prefixLength(readUnsignedByte()) - 1);
+		}
+	}
+
+	public void skipDynPrefixVarArray() throws IOException {
+		skipFixedPrefixVarArray(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public void skipDynPrefixVarArray(int maxLength) throws IOException {
+		skipFixedPrefixVarArray(validate(readVar32(), maxLength));
+	}
+
+	public void skipFixedStreamVar32Array(int length) throws IOException {
+		int controlSize = StreamVByte.controlSize(length);
+		long dataSize = 0;
+
+		for (int i = 0; i < controlSize; i++) {
+			dataSize += StreamVByte.dataSize(readUnsignedByte(), Math.min(4, length - i * 4));
+		}
+
+		skipFully(dataSize);
+	}
+
+	public void skipDynStreamVar32Array() throws IOException {
+		skipFixedStreamVar32Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public void skipDynStreamVar32Array(int maxLength) throws IOException {
+		skipFixedStreamVar32Array(validate(readVar32(), maxLength));
+	}
+
+	public void skipFixedPackedI32Array(int length) throws IOException {
+		for (int offset = 0; offset < length; offset += BitPacking.BLOCK_SIZE) {
+			int count = Math.min(BitPacking.BLOCK_SIZE, length - offset);
+			readVar32();
+			int width = readU8();
+
+			if (width > 32) {
+				throw new IOException("bit width " + width + " is too big");
+			}
+
+			skipFully(BitPacking.packedSize(count, width));
+		}
+	}
+
+	public void skipDynPackedI32Array() throws IOException {
+		skipFixedPackedI32Array(validate(readVar32(), config.maxArrayLength));
+	}
+
+	public void skipDynPackedI32Array(int maxLength) throws IOException {
+		skipFixedPackedI32Array(validate(readVar32(), maxLength));
+	}
+
+	public void skipFixedMap(Decoder<?> keyDecoder, Decoder<?> valueDecoder, int size) throws IOException {
+		for (int i = 0; i < size; i++) {
+			keyDecoder.skip(this);
+			valueDecoder.skip(this);
+		}
+	}
+
+	public void skipDynMap(Decoder<?> keyDecoder, Decoder<?> valueDecoder) throws IOException {
+		skipFixedMap(keyDecoder, valueDecoder, validate(readVar32(), config.maxMapSize));
+	}
+
+	public void skipDynMap(Decoder<?> keyDecoder, Decoder<?> valueDecoder, int maxSize) throws IOException {
+		skipFixedMap(keyDecoder, valueDecoder, validate(readVar32(), maxSize));
+	}
+
 	public <T> T read(Decoder<T> decoder) throws IOException {
 		return decoder.decode(this);
 	}
@@ -328,6 +795,11 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public void readFully(byte @NotNull [] b) throws IOException {
+		if (buffer != null) {
+			buffer.readFully(b);
+			return;
+		}
+
 		bytesRead += b.length;
 		delegate.readFully(b);
 	}
@@ -335,6 +807,11 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public void readFully(byte @NotNull [] b, int off, int len) throws IOException {
+		if (buffer != null) {
+			buffer.readFully(b, off, len);
+			return;
+		}
+
 		bytesRead += len;
 		delegate.readFully(b, off, len);
 	}
@@ -342,6 +819,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public int skipBytes(int n) throws IOException {
+		if (buffer != null) {
+			return buffer.skipBytes(n);
+		}
+
 		bytesRead += n;
 		return delegate.skipBytes(n);
 	}
@@ -349,6 +830,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public boolean readBoolean() throws IOException {
+		if (buffer != null) {
+			return buffer.readBoolean();
+		}
+
 		bytesRead += 1;
 		return delegate.readBoolean();
 	}
@@ -356,6 +841,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public byte readByte() throws IOException {
+		if (buffer != null) {
+			return buffer.readByte();
+		}
+
 		bytesRead += 1;
 		return delegate.readByte();
 	}
@@ -363,6 +852,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public int readUnsignedByte() throws IOException {
+		if (buffer != null) {
+			return buffer.readUnsignedByte();
+		}
+
 		bytesRead += 1;
 		return delegate.readUnsignedByte();
 	}
@@ -370,6 +863,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public short readShort() throws IOException {
+		if (buffer != null) {
+			return buffer.readShort();
+		}
+
 		bytesRead += 2;
 		return delegate.readShort();
 	}
@@ -377,6 +874,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public int readUnsignedShort() throws IOException {
+		if (buffer != null) {
+			return buffer.readUnsignedShort();
+		}
+
 		bytesRead += 2;
 		return delegate.readUnsignedShort();
 	}
@@ -384,6 +885,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public char readChar() throws IOException {
+		if (buffer != null) {
+			return buffer.readChar();
+		}
+
 		bytesRead += 2;
 		return delegate.readChar();
 	}
@@ -391,6 +896,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public int readInt() throws IOException {
+		if (buffer != null) {
+			return buffer.readInt();
+		}
+
 		bytesRead += 4;
 		return delegate.readInt();
 	}
@@ -398,6 +907,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public long readLong() throws IOException {
+		if (buffer != null) {
+			return buffer.readLong();
+		}
+
 		bytesRead += 8;
 		return delegate.readLong();
 	}
@@ -405,6 +918,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public float readFloat() throws IOException {
+		if (buffer != null) {
+			return buffer.readFloat();
+		}
+
 		bytesRead += 4;
 		return delegate.readFloat();
 	}
@@ -412,6 +929,10 @@ public final class DataInputWrapper implements DataInput {
 	@Deprecated
 	@Override
 	public double readDouble() throws IOException {
+		if (buffer != null) {
+			return buffer.readDouble();
+		}
+
 		bytesRead += 8;
 		return delegate.readDouble();
 	}
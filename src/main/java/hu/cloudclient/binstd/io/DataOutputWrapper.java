@@ -1,7 +1,5 @@
 package hu.cloudclient.binstd.io;
 
-import com.google.common.io.ByteArrayDataOutput;
-import com.google.common.io.ByteStreams;
 import hu.cloudclient.binstd.IntIdentifiable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -14,78 +12,160 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.function.ToIntFunction;
 
+@SuppressWarnings("DeprecatedIsStillUsed")
 public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 
+	private static final ThreadLocal<OutputBuffer> SCRATCH = new ThreadLocal<>();
+	// Larger scratch buffers are dropped after use instead of being kept by the thread
+	private static final int MAX_SCRATCH_CAPACITY = 1 << 16;
+
 	public DataOutputWrapper() {
-		this(ByteStreams.newDataOutput());
+		this(new OutputBuffer());
+	}
+
+	public DataOutputWrapper(int initialCapacity) {
+		this(new OutputBuffer(initialCapacity));
 	}
 
+	// Values of a fixed size are encoded into an array of that size and returned without a copy. Everything else is
+	// encoded once into a per-thread scratch buffer and copied out at its exact size, so the only allocation is the
+	// returned array. encodedSize isn't used, it may have to encode the value to find its size.
 	public static <T> byte[] encodeAndGetBytes(T value, Encoder<T> encoder) throws IOException {
-		ByteArrayDataOutput delegate = ByteStreams.newDataOutput();
-		DataOutputWrapper out = new DataOutputWrapper(delegate);
-		encoder.encode(out, value);
-		return delegate.toByteArray();
+		int fixedSize = encoder.fixedSize();
+
+		if (fixedSize != Encoder.VARIABLE_SIZE) {
+			OutputBuffer buffer = new OutputBuffer(fixedSize);
+			encoder.encode(new DataOutputWrapper(buffer), value);
+			return buffer.size() == buffer.capacity() ? buffer.array() : buffer.toByteArray();
+		}
+
+		// Taken out while in use, an encoder calling encodeAndGetBytes gets a buffer of its own
+		OutputBuffer scratch = SCRATCH.get();
+
+		if (scratch != null) {
+			SCRATCH.set(null);
+			scratch.reset();
+		} else {
+			scratch = new OutputBuffer();
+		}
+
+		try {
+			encoder.encode(new DataOutputWrapper(scratch), value);
+			return scratch.toByteArray();
+		} finally {
+			if (scratch.capacity() <= MAX_SCRATCH_CAPACITY) {
+				SCRATCH.set(scratch);
+			}
+		}
 	}
 
 	public void writeBool(boolean value) throws IOException {
-		delegate.writeBoolean(value);
+		writeBoolean(value);
 	}
 
 	public void writeI8(int value) throws IOException {
-		delegate.writeByte(value);
+		writeByte(value);
 	}
 
 	public void writeI16(int value) throws IOException {
-		delegate.writeShort(value);
+		writeShort(value);
 	}
 
 	public void writeI32(int value) throws IOException {
-		delegate.writeInt(value);
+		writeInt(value);
 	}
 
 	public void writeI64(long value) throws IOException {
-		delegate.writeLong(value);
+		writeLong(value);
 	}
 
 	public void writeVar32(int value) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeVar32(value);
+			return;
+		}
+
 		for (;;) {
 			if ((value & ~0b01111111) == 0) {
-				delegate.writeByte(value);
+				writeByte(value);
 				return;
 			}
 
-			delegate.writeByte(value & 0b01111111 | 0b10000000);
+			writeByte(value & 0b01111111 | 0b10000000);
 			value >>>= 7;
 		}
 	}
 
 	public void writeVar64(long value) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeVar64(value);
+			return;
+		}
+
 		for (;;) {
 			if ((value & ~0b01111111L) == 0) {
-				delegate.writeByte((int) value);
+				writeByte((int) value);
 				return;
 			}
 
-			delegate.writeByte((int) (value & 0b01111111 | 0b10000000));
+			writeByte((int) (value & 0b01111111 | 0b10000000));
 			value >>>= 7;
 		}
 	}
 
+	public void writeSVar32(int value) throws IOException {
+		writeVar32(VarNum.zigZag(value));
+	}
+
+	public void writeSVar64(long value) throws IOException {
+		writeVar64(VarNum.zigZag(value));
+	}
+
+	public void writePrefixVar32(int value) throws IOException {
+		writePrefixVar64(value & 0xFFFFFFFFL);
+	}
+
+	public void writePrefixVar64(long value) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writePrefixVar64(value);
+			return;
+		}
+
+		int length = VarNum.sizeOfPrefix(value);
+
+		if (length == 9) {
+			writeByte(0xFF);
+			writeLong(value);
+			return;
+		}
+
+		long prefixed = VarNum.prefixed(value, length);
+
+		for (int shift = 8 * (length - 1); shift >= 0; shift -= 8) {
+			writeByte((int) (prefixed >>> shift));
+		}
+	}
+
 	public void writeF32(float value) throws IOException {
-		delegate.writeFloat(value);
+		writeFloat(value);
 	}
 
 	public void writeF64(double value) throws IOException {
-		delegate.writeDouble(value);
+		writeDouble(value);
 	}
 
 	public void writeUTF8(String value) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeUTF8(value);
+			return;
+		}
+
 		writeDynI8Array(value.getBytes(StandardCharsets.UTF_8));
 	}
 
 	public void writeUUID(UUID value) throws IOException {
-		delegate.writeLong(value.getMostSignificantBits());
-		delegate.writeLong(value.getLeastSignificantBits());
+		writeLong(value.getMostSignificantBits());
+		writeLong(value.getLeastSignificantBits());
 	}
 
 	public void writeEnum(Enum<?> instance) throws IOException {
@@ -102,9 +182,9 @@ public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 
 	public <T> void writeNullable(@Nullable T value, Encoder<T> encoder) throws IOException {
 		if (value == null) {
-			delegate.writeBoolean(false);
+			writeBoolean(false);
 		} else {
-			delegate.writeBoolean(true);
+			writeBoolean(true);
 			encoder.encode(this, value);
 		}
 	}
@@ -121,7 +201,11 @@ public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 	}
 
 	public void writeFixedI8Array(byte[] array) throws IOException {
-		delegate.write(array);
+		write(array);
+	}
+
+	public void writeFixedI8Array(byte[] array, int offset, int length) throws IOException {
+		write(array, offset, length);
 	}
 
 	public void writeDynI8Array(byte[] array) throws IOException {
@@ -130,6 +214,11 @@ public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 	}
 
 	public void writeFixedI32Array(int[] array) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeI32s(array);
+			return;
+		}
+
 		for (int i : array) {
 			writeI32(i);
 		}
@@ -137,10 +226,7 @@ public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 
 	public void writeDynI32Array(int[] array) throws IOException {
 		writeVar32(array.length);
-
-		for (int i : array) {
-			writeI32(i);
-		}
+		writeFixedI32Array(array);
 	}
 
 	public void writeFixedVar32Array(int[] array) throws IOException {
@@ -158,6 +244,11 @@ public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 	}
 
 	public void writeFixedI64Array(long[] array) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeI64s(array);
+			return;
+		}
+
 		for (long l : array) {
 			writeI64(l);
 		}
@@ -165,10 +256,7 @@ public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 
 	public void writeDynI64Array(long[] array) throws IOException {
 		writeVar32(array.length);
-
-		for (long l : array) {
-			writeI64(l);
-		}
+		writeFixedI64Array(array);
 	}
 
 	public void writeFixedVar64Array(long[] array) throws IOException {
@@ -185,6 +273,152 @@ public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 		}
 	}
 
+	public void writeFixedPrefixVar32Array(int[] array) throws IOException {
+		for (int i : array) {
+			writePrefixVar32(i);
+		}
+	}
+
+	public void writeDynPrefixVar32Array(int[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedPrefixVar32Array(array);
+	}
+
+	public void writeFixedPrefixVar64Array(long[] array) throws IOException {
+		for (long l : array) {
+			writePrefixVar64(l);
+		}
+	}
+
+	public void writeDynPrefixVar64Array(long[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedPrefixVar64Array(array);
+	}
+
+	public void writeFixedSVar32Array(int[] array) throws IOException {
+		for (int i : array) {
+			writeSVar32(i);
+		}
+	}
+
+	public void writeDynSVar32Array(int[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedSVar32Array(array);
+	}
+
+	public void writeFixedSVar64Array(long[] array) throws IOException {
+		for (long l : array) {
+			writeSVar64(l);
+		}
+	}
+
+	public void writeDynSVar64Array(long[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedSVar64Array(array);
+	}
+
+	public void writeFixedDeltaI32Array(int[] array) throws IOException {
+		int previous = 0;
+
+		for (int i : array) {
+			writeSVar32(i - previous);
+			previous = i;
+		}
+	}
+
+	public void writeDynDeltaI32Array(int[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedDeltaI32Array(array);
+	}
+
+	public void writeFixedDoubleDeltaI32Array(int[] array) throws IOException {
+		if (array.length == 0) {
+			return;
+		}
+
+		writeSVar32(array[0]);
+		int delta = 0;
+
+		for (int i = 1; i < array.length; i++) {
+			int newDelta = array[i] - array[i - 1];
+			writeSVar32(newDelta - delta);
+			delta = newDelta;
+		}
+	}
+
+	public void writeDynDoubleDeltaI32Array(int[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedDoubleDeltaI32Array(array);
+	}
+
+	public void writeFixedStreamVar32Array(int[] array) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeStreamVByte(array);
+			return;
+		}
+
+		byte[] bytes = new byte[StreamVByte.sizeOf(array) + StreamVByte.PADDING];
+		write(bytes, 0, StreamVByte.encode(array, bytes, 0));
+	}
+
+	public void writeDynStreamVar32Array(int[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedStreamVar32Array(array);
+	}
+
+	public void writeFixedPackedI32Array(int[] array) throws IOException {
+		byte[] block = new byte[BitPacking.MAX_BLOCK_BYTES];
+
+		for (int offset = 0; offset < array.length; offset += BitPacking.BLOCK_SIZE) {
+			int count = Math.min(BitPacking.BLOCK_SIZE, array.length - offset);
+			int min = BitPacking.min(array, offset, count);
+			int width = BitPacking.width(array, offset, count, min);
+
+			writeSVar32(min);
+			writeI8(width);
+			write(block, 0, BitPacking.pack(array, offset, count, min, width, block));
+		}
+	}
+
+	public void writeDynPackedI32Array(int[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedPackedI32Array(array);
+	}
+
+	public void writeFixedDeltaI64Array(long[] array) throws IOException {
+		long previous = 0;
+
+		for (long l : array) {
+			writeSVar64(l - previous);
+			previous = l;
+		}
+	}
+
+	public void writeDynDeltaI64Array(long[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedDeltaI64Array(array);
+	}
+
+	public void writeFixedDoubleDeltaI64Array(long[] array) throws IOException {
+		if (array.length == 0) {
+			return;
+		}
+
+		writeSVar64(array[0]);
+		long delta = 0;
+
+		for (int i = 1; i < array.length; i++) {
+			long newDelta = array[i] - array[i - 1];
+			writeSVar64(newDelta - delta);
+			delta = newDelta;
+		}
+	}
+
+	public void writeDynDoubleDeltaI64Array(long[] array) throws IOException {
+		writeVar32(array.length);
+		writeFixedDoubleDeltaI64Array(array);
+	}
+
 	public <T> void writeFixedCollection(Collection<T> collection, Encoder<T> encoder) throws IOException {
 		for (T t : collection) {
 			encoder.encode(this, t);
@@ -215,84 +449,154 @@ public record DataOutputWrapper(DataOutput delegate) implements DataOutput {
 	@Deprecated
 	@Override
 	public void write(int b) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.write(b);
+			return;
+		}
+
 		delegate.write(b);
 	}
 
 	@Deprecated
 	@Override
 	public void write(byte @NotNull [] b) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.write(b);
+			return;
+		}
+
 		delegate.write(b);
 	}
 
 	@Deprecated
 	@Override
 	public void write(byte @NotNull [] b, int off, int len) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.write(b, off, len);
+			return;
+		}
+
 		delegate.write(b, off, len);
 	}
 
 	@Deprecated
 	@Override
 	public void writeBoolean(boolean v) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeBoolean(v);
+			return;
+		}
+
 		delegate.writeBoolean(v);
 	}
 
 	@Deprecated
 	@Override
 	public void writeByte(int v) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeByte(v);
+			return;
+		}
+
 		delegate.writeByte(v);
 	}
 
 	@Deprecated
 	@Override
 	public void writeShort(int v) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeShort(v);
+			return;
+		}
+
 		delegate.writeShort(v);
 	}
 
 	@Deprecated
 	@Override
 	public void writeChar(int v) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeChar(v);
+			return;
+		}
+
 		delegate.writeChar(v);
 	}
 
 	@Deprecated
 	@Override
 	public void writeInt(int v) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeInt(v);
+			return;
+		}
+
 		delegate.writeInt(v);
 	}
 
 	@Deprecated
 	@Override
 	public void writeLong(long v) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeLong(v);
+			return;
+		}
+
 		delegate.writeLong(v);
 	}
 
 	@Deprecated
 	@Override
 	public void writeFloat(float v) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeFloat(v);
+			return;
+		}
+
 		delegate.writeFloat(v);
 	}
 
 	@Deprecated
 	@Override
 	public void writeDouble(double v) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeDouble(v);
+			return;
+		}
+
 		delegate.writeDouble(v);
 	}
 
 	@Deprecated
 	@Override
 	public void writeChars(@NotNull String s) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeChars(s);
+			return;
+		}
+
 		delegate.writeChars(s);
 	}
 
 	@Deprecated
 	@Override
 	public void writeUTF(@NotNull String s) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeUTF(s);
+			return;
+		}
+
 		delegate.writeUTF(s);
 	}
 
 	@Deprecated
 	@Override
 	public void writeBytes(@NotNull String s) throws IOException {
+		if (delegate instanceof OutputBuffer buffer) {
+			buffer.writeBytes(s);
+			return;
+		}
+
 		delegate.writeBytes(s);
 	}
 
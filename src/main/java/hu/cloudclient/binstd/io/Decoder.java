@@ -6,4 +6,9 @@ public interface Decoder<T> {
 
 	T decode(DataInputWrapper in) throws IOException;
 
+	// Moves past a value without building it, decoders that can do it cheaper than decoding should override it
+	default void skip(DataInputWrapper in) throws IOException {
+		decode(in);
+	}
+
 }
@@ -0,0 +1,63 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.util.function.ToDoubleFunction;
+
+public interface DoubleCodec extends Codec<Double> {
+
+	double decodeDouble(DataInputWrapper in) throws IOException;
+
+	void encodeDouble(DataOutputWrapper out, double value) throws IOException;
+
+	default int encodedDoubleSize(double value) throws IOException {
+		return Codec.super.encodedSize(value);
+	}
+
+	@Override
+	default Double decode(DataInputWrapper in) throws IOException {
+		return decodeDouble(in);
+	}
+
+	@Override
+	default void encode(DataOutputWrapper out, Double value) throws IOException {
+		encodeDouble(out, value);
+	}
+
+	@Override
+	default int encodedSize(Double value) throws IOException {
+		return encodedDoubleSize(value);
+	}
+
+	default <O> FieldCodec<O, Double> doubleField(ToDoubleFunction<? super O> getter) {
+		return new FieldCodec<>() {
+
+			@Override
+			public Double decode(DataInputWrapper in) throws IOException {
+				return decodeDouble(in);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				DoubleCodec.this.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, O owner) throws IOException {
+				encodeDouble(out, getter.applyAsDouble(owner));
+			}
+
+			@Override
+			public int encodedSize(O owner) throws IOException {
+				int fixedSize = fixedSize();
+				return fixedSize != VARIABLE_SIZE ? fixedSize : encodedDoubleSize(getter.applyAsDouble(owner));
+			}
+
+			@Override
+			public int fixedSize() {
+				return DoubleCodec.this.fixedSize();
+			}
+
+		};
+	}
+
+}
@@ -1,9 +1,48 @@
 package hu.cloudclient.binstd.io;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 public interface Encoder<T> {
 
+	int VARIABLE_SIZE = -1;
+
 	void encode(DataOutputWrapper out, T value) throws IOException;
 
+	// The exact number of bytes encode writes for value.
+	// The fallback encodes the value into a counting sink, encoders that can do better should override it.
+	default int encodedSize(T value) throws IOException {
+		int fixedSize = fixedSize();
+
+		if (fixedSize != VARIABLE_SIZE) {
+			return fixedSize;
+		}
+
+		DataOutputStream counter = new DataOutputStream(OutputStream.nullOutputStream());
+		encode(new DataOutputWrapper(counter), value);
+		return counter.size();
+	}
+
+	// The size of every encoded value if it doesn't depend on the value, VARIABLE_SIZE otherwise
+	default int fixedSize() {
+		return VARIABLE_SIZE;
+	}
+
+	static int fixedSizeOf(Encoder<?>... encoders) {
+		int size = 0;
+
+		for (Encoder<?> encoder : encoders) {
+			int fixedSize = encoder.fixedSize();
+
+			if (fixedSize == VARIABLE_SIZE) {
+				return VARIABLE_SIZE;
+			}
+
+			size += fixedSize;
+		}
+
+		return size;
+	}
+
 }
@@ -0,0 +1,7 @@
+package hu.cloudclient.binstd.io;
+
+// One field of a record-like type O: encodes the field straight from its owner and decodes it on its own.
+// Obtained from Codec.field or the primitive variants (IntCodec.intField, ...), which read the field without boxing.
+public interface FieldCodec<O, F> extends Encoder<O>, Decoder<F> {
+
+}
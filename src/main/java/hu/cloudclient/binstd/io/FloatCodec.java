@@ -0,0 +1,64 @@
+package hu.cloudclient.binstd.io;
+
+import hu.cloudclient.binstd.function.ToFloatFunction;
+
+import java.io.IOException;
+
+public interface FloatCodec extends Codec<Float> {
+
+	float decodeFloat(DataInputWrapper in) throws IOException;
+
+	void encodeFloat(DataOutputWrapper out, float value) throws IOException;
+
+	default int encodedFloatSize(float value) throws IOException {
+		return Codec.super.encodedSize(value);
+	}
+
+	@Override
+	default Float decode(DataInputWrapper in) throws IOException {
+		return decodeFloat(in);
+	}
+
+	@Override
+	default void encode(DataOutputWrapper out, Float value) throws IOException {
+		encodeFloat(out, value);
+	}
+
+	@Override
+	default int encodedSize(Float value) throws IOException {
+		return encodedFloatSize(value);
+	}
+
+	default <O> FieldCodec<O, Float> floatField(ToFloatFunction<? super O> getter) {
+		return new FieldCodec<>() {
+
+			@Override
+			public Float decode(DataInputWrapper in) throws IOException {
+				return decodeFloat(in);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				FloatCodec.this.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, O owner) throws IOException {
+				encodeFloat(out, getter.applyAsFloat(owner));
+			}
+
+			@Override
+			public int encodedSize(O owner) throws IOException {
+				int fixedSize = fixedSize();
+				return fixedSize != VARIABLE_SIZE ? fixedSize : encodedFloatSize(getter.applyAsFloat(owner));
+			}
+
+			@Override
+			public int fixedSize() {
+				return FloatCodec.this.fixedSize();
+			}
+
+		};
+	}
+
+}
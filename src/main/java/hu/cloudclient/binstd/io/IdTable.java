@@ -0,0 +1,125 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.util.function.ToIntFunction;
+
+// Decoding side of enum and IntIdentifiable codecs, built once per codec. Ids from 0 to a few times the constant count
+// index an array directly, other id spaces use open addressing with linear probing in a table at most half full, so a
+// lookup is a multiply, shift and a few compares and the table takes at most 4 slots per constant.
+final class IdTable<T> {
+
+	private static final int MULTIPLIER = 0x9E3779B9;
+	private static final int MAX_BITS = 30;
+
+	private final String name;
+	private final Object[] values;
+	// null if dense
+	private final int[] ids;
+	private final int shift;
+	private final int mask;
+
+	private IdTable(String name, Object[] values, int[] ids, int shift) {
+		this.name = name;
+		this.values = values;
+		this.ids = ids;
+		this.shift = shift;
+		this.mask = values.length - 1;
+	}
+
+	// null elements of constants are skipped, so arrays indexed by id with gaps can be passed too
+	static <T> IdTable<T> of(String name, T[] constants, ToIntFunction<? super T> idGetter) {
+		int count = 0;
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+
+		for (T constant : constants) {
+			if (constant == null) {
+				continue;
+			}
+
+			int id = idGetter.applyAsInt(constant);
+			count++;
+			min = Math.min(min, id);
+			max = Math.max(max, id);
+		}
+
+		if (count == 0 || min >= 0 && max < 4 * count + 16) {
+			Object[] values = new Object[count == 0 ? 0 : max + 1];
+
+			for (T constant : constants) {
+				if (constant == null) {
+					continue;
+				}
+
+				int id = idGetter.applyAsInt(constant);
+
+				if (values[id] != null) {
+					throw new IllegalArgumentException("duplicate id " + id + " in " + name);
+				}
+
+				values[id] = constant;
+			}
+
+			return new IdTable<>(name, values, null, 0);
+		}
+
+		int bits = 32 - Integer.numberOfLeadingZeros(2 * count - 1);
+
+		if (bits > MAX_BITS) {
+			throw new IllegalArgumentException(count + " ids in " + name + " need a table of more than 2^" + MAX_BITS + " slots");
+		}
+
+		Object[] values = new Object[1 << bits];
+		int[] ids = new int[1 << bits];
+		int shift = 32 - bits;
+		int mask = values.length - 1;
+
+		for (T constant : constants) {
+			if (constant == null) {
+				continue;
+			}
+
+			int id = idGetter.applyAsInt(constant);
+			int slot = id * MULTIPLIER >>> shift;
+
+			while (values[slot] != null) {
+				if (ids[slot] == id) {
+					throw new IllegalArgumentException("duplicate id " + id + " in " + name);
+				}
+
+				slot = slot + 1 & mask;
+			}
+
+			values[slot] = constant;
+			ids[slot] = id;
+		}
+
+		return new IdTable<>(name, values, ids, shift);
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(int id) throws IOException {
+		Object value = null;
+
+		if (ids == null) {
+			if (id >= 0 && id < values.length) {
+				value = values[id];
+			}
+		} else {
+			// An empty slot ends the probe sequence, the table is never full
+			for (int slot = id * MULTIPLIER >>> shift; values[slot] != null; slot = slot + 1 & mask) {
+				if (ids[slot] == id) {
+					value = values[slot];
+					break;
+				}
+			}
+		}
+
+		if (value == null) {
+			throw new IOException("id " + id + " for " + name + " is out of bounds");
+		}
+
+		return (T) value;
+	}
+
+}
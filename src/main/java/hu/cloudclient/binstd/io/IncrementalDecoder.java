@@ -0,0 +1,173 @@
+package hu.cloudclient.binstd.io;
+
+import hu.cloudclient.binstd.exception.MismatchedLengthException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.Consumer;
+
+// Decodes a stream of values written by Codec.framed from bytes that arrive in arbitrary pieces, e.g. from a
+// non-blocking channel. Bytes are accumulated in one buffer until a whole frame is there, then the frame is decoded
+// once. Only the length prefix is read from partial input, values themselves are never retried.
+public final class IncrementalDecoder<T> {
+
+	private static final int MIN_READ = 4096;
+
+	private final Decoder<T> decoder;
+	private final DataInputWrapper.Config config;
+	private final int maxPendingBytes;
+
+	private byte[] array = new byte[MIN_READ];
+	private int readIndex;
+	private int writeIndex;
+	// Number of buffered bytes needed before the next attempt can get further than the previous one
+	private long required = 1;
+
+	// decoder reads the value inside the frame, not the framed codec
+	public IncrementalDecoder(Decoder<T> decoder, DataInputWrapper.Config config, int maxPendingBytes) {
+		this.decoder = decoder;
+		this.config = config;
+		this.maxPendingBytes = maxPendingBytes;
+	}
+
+	public IncrementalDecoder(Decoder<T> decoder, DataInputWrapper.Config config) {
+		this(decoder, config, Integer.MAX_VALUE - 8);
+	}
+
+	public IncrementalDecoder(Decoder<T> decoder) {
+		this(decoder, DataInputWrapper.Config.UNRESTRICTED);
+	}
+
+	public int pendingBytes() {
+		return writeIndex - readIndex;
+	}
+
+	// Bytes still missing before decode can return the next value, at least 1 while nothing is buffered
+	public long bytesNeeded() {
+		return Math.max(0, required - pendingBytes());
+	}
+
+	public void feed(byte[] bytes, int offset, int length) throws IOException {
+		reserve(length);
+		System.arraycopy(bytes, offset, array, writeIndex, length);
+		writeIndex += length;
+	}
+
+	public void feed(byte[] bytes) throws IOException {
+		feed(bytes, 0, bytes.length);
+	}
+
+	public void feed(ByteBuffer bytes) throws IOException {
+		int length = bytes.remaining();
+		reserve(length);
+		bytes.get(array, writeIndex, length);
+		writeIndex += length;
+	}
+
+	// Reads straight into the pending buffer, returns the result of channel.read
+	public int readFrom(ReadableByteChannel channel) throws IOException {
+		int room = maxPendingBytes - pendingBytes();
+
+		if (room <= 0) {
+			throw new IOException("more than " + maxPendingBytes + " bytes pending");
+		}
+
+		reserve((int) Math.min(Math.max(MIN_READ, bytesNeeded()), room));
+		int read = channel.read(ByteBuffer.wrap(array, writeIndex, array.length - writeIndex));
+
+		if (read > 0) {
+			writeIndex += read;
+		}
+
+		return read;
+	}
+
+	private void reserve(int length) throws IOException {
+		if (length <= array.length - writeIndex) {
+			return;
+		}
+
+		int pending = pendingBytes();
+
+		if (length > maxPendingBytes - pending) {
+			throw new IOException("more than " + maxPendingBytes + " bytes pending");
+		}
+
+		if (pending + length <= array.length && readIndex > 0) {
+			System.arraycopy(array, readIndex, array, 0, pending);
+		} else {
+			byte[] newArray = new byte[(int) Math.min(maxPendingBytes, Math.max(pending + length, array.length * 2L))];
+			System.arraycopy(array, readIndex, newArray, 0, pending);
+			array = newArray;
+		}
+
+		readIndex = 0;
+		writeIndex = pending;
+	}
+
+	// Passes every value that is completely buffered to consumer, returns how many there were
+	public int decode(Consumer<? super T> consumer) throws IOException {
+		if (pendingBytes() < required) {
+			return 0;
+		}
+
+		InputBuffer input = new InputBuffer(array, readIndex, pendingBytes());
+		input.partial = true;
+		DataInputWrapper in = new DataInputWrapper(input, config);
+		int decoded = 0;
+
+		while (input.hasRemaining()) {
+			long start = input.position();
+			int length;
+
+			try {
+				length = in.readVar32();
+			} catch (InputBuffer.Underflow e) {
+				required = input.requiredPosition - start;
+				return decoded;
+			}
+
+			if (length < 0) {
+				throw new MismatchedLengthException(0, Integer.MAX_VALUE, length);
+			}
+
+			long frameStart = input.position();
+
+			if (input.remaining() < length) {
+				required = frameStart + length - start;
+				return decoded;
+			}
+
+			T value = decodeFrame((int) frameStart, length);
+			input.position(frameStart + length);
+			readIndex = (int) input.position();
+			required = 1;
+			decoded++;
+			consumer.accept(value);
+		}
+
+		readIndex = 0;
+		writeIndex = 0;
+		return decoded;
+	}
+
+	// The frame is complete, running out of bytes inside it means it's corrupt
+	private T decodeFrame(int offset, int length) throws IOException {
+		InputBuffer frame = new InputBuffer(array, offset, length);
+		T value = decoder.decode(new DataInputWrapper(frame, config));
+
+		if (frame.hasRemaining()) {
+			throw new MismatchedLengthException(length, (int) frame.bytesRead());
+		}
+
+		return value;
+	}
+
+	public void reset() {
+		readIndex = 0;
+		writeIndex = 0;
+		required = 1;
+	}
+
+}
@@ -0,0 +1,570 @@
+package hu.cloudclient.binstd.io;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+// Cursor over a byte[], a heap / direct ByteBuffer or a memory mapped file. Every read is an absolute access at the
+// current index, the position / limit of the backing buffers are never touched.
+//
+// Sources larger than 2 GB are split into regions that are REGION_STRIDE bytes apart, each mapped REGION_OVERLAP bytes
+// longer than the stride. A primitive read starting in a region therefore never straddles two buffers, the cursor
+// only has to move to the next region once the current one is exhausted.
+public final class InputBuffer implements DataInput {
+
+	static final int REGION_STRIDE = 1 << 30;
+	static final int REGION_OVERLAP = 16;
+	static final int MAX_SCRATCH_SIZE = 4096;
+
+	// Var-ints are decoded 8 bytes at a time, a clear high bit in the word marks the last byte
+	private static final VarHandle LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final long CONTINUATION_BITS = 0x8080808080808080L;
+
+	private final ByteBuffer[] regions;
+	private final int stride;
+	private final long start;
+	private final long end;
+
+	private ByteBuffer buffer;
+	private byte[] scratch;
+	private int region;
+	private long base;
+	private int limit;
+	private int position;
+
+	// Set by IncrementalDecoder, which expects to run out of bytes and retries once requiredPosition is available
+	boolean partial;
+	long requiredPosition;
+
+	private InputBuffer(ByteBuffer[] regions, int stride, long start, long end) {
+		this.regions = regions;
+		this.stride = stride;
+		this.start = start;
+		this.end = end;
+		seek(start);
+	}
+
+	public InputBuffer(ByteBuffer buffer) {
+		this(new ByteBuffer[]{buffer.duplicate().order(ByteOrder.BIG_ENDIAN)}, Integer.MAX_VALUE, buffer.position(), buffer.limit());
+	}
+
+	public InputBuffer(byte[] array, int offset, int length) {
+		this(new ByteBuffer[]{ByteBuffer.wrap(array)}, Integer.MAX_VALUE, offset, Objects.checkFromIndexSize(offset, length, array.length) + length);
+	}
+
+	public InputBuffer(byte[] array) {
+		this(array, 0, array.length);
+	}
+
+	public static InputBuffer map(FileChannel channel) throws IOException {
+		return map(channel, 0, channel.size());
+	}
+
+	// Positions of the returned buffer are relative to offset
+	public static InputBuffer map(FileChannel channel, long offset, long size) throws IOException {
+		return map(channel, offset, size, REGION_STRIDE);
+	}
+
+	static InputBuffer map(FileChannel channel, long offset, long size, int stride) throws IOException {
+		if (stride < REGION_OVERLAP) {
+			throw new IllegalArgumentException("stride " + stride + " is smaller than the overlap " + REGION_OVERLAP);
+		}
+
+		if (offset < 0 || size < 0 || offset + size > channel.size()) {
+			throw new IllegalArgumentException("region " + offset + "+" + size + " is out of bounds for file of size " + channel.size());
+		}
+
+		int count = (int) Math.max(1, (size + stride - 1) / stride);
+		ByteBuffer[] regions = new ByteBuffer[count];
+
+		for (int i = 0; i < count; i++) {
+			long regionStart = (long) i * stride;
+			long regionSize = Math.min(stride + REGION_OVERLAP, size - regionStart);
+			regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + regionStart, regionSize);
+		}
+
+		return new InputBuffer(regions, stride, 0, size);
+	}
+
+	// An independent cursor over the same bytes, starting at the current position
+	public InputBuffer duplicate() {
+		InputBuffer duplicate = new InputBuffer(regions, stride, start, end);
+		duplicate.seek(position());
+		return duplicate;
+	}
+
+	public long position() {
+		return base + position;
+	}
+
+	public void position(long newPosition) {
+		if (newPosition < start || newPosition > end) {
+			throw new IndexOutOfBoundsException("position " + newPosition + " not in " + start + ".." + end);
+		}
+
+		seek(newPosition);
+	}
+
+	private void seek(long newPosition) {
+		region = (int) Math.min(newPosition / stride, regions.length - 1);
+		base = (long) region * stride;
+		buffer = regions[region];
+		limit = (int) Math.min(buffer.limit(), end - base);
+		position = (int) (newPosition - base);
+	}
+
+	// Only called once position has passed the stride, the bytes before that are all covered by the current region
+	private boolean nextRegion() {
+		if (region + 1 >= regions.length || position < stride) {
+			return false;
+		}
+
+		region++;
+		base += stride;
+		buffer = regions[region];
+		limit = (int) Math.min(buffer.limit(), end - base);
+		position -= stride;
+		return true;
+	}
+
+	public long bytesRead() {
+		return position() - start;
+	}
+
+	public long remaining() {
+		return end - position();
+	}
+
+	public boolean hasRemaining() {
+		return position() < end;
+	}
+
+	// Index of n readable bytes in buffer, n must not exceed REGION_OVERLAP.
+	// May move to the next region, so buffer has to be read after calling this.
+	private int advance(int n) throws EOFException {
+		int p = position;
+
+		if (n > limit - p) {
+			if (!nextRegion() || n > limit - position) {
+				throw underflow(n);
+			}
+
+			p = position;
+		}
+
+		position = p + n;
+		return p;
+	}
+
+	private EOFException underflow(long n) {
+		// No amount of further input satisfies a negative count, so it isn't an underflow even on partial input
+		if (n < 0) {
+			return new EOFException("needed " + n + " bytes");
+		}
+
+		requiredPosition = position() + n;
+
+		if (partial) {
+			return Underflow.INSTANCE;
+		}
+
+		return new EOFException("needed " + n + " bytes, but only " + remaining() + " remain");
+	}
+
+	public void ensure(long n) throws EOFException {
+		if (n < 0 || n > remaining()) {
+			throw underflow(n);
+		}
+	}
+
+	public int readVar32() throws IOException {
+		int p = position;
+
+		if (limit - p < 8) {
+			return readVar32Slow();
+		}
+
+		long word = (long) LONG_LE.get(buffer, p);
+		long stops = ~word & CONTINUATION_BITS;
+
+		if (stops == 0) {
+			throw new IOException("var32 too big");
+		}
+
+		int last = Long.numberOfTrailingZeros(stops);
+
+		if (last > 5 * 8) {
+			throw new IOException("var32 too big");
+		}
+
+		position = p + (last + 1 >>> 3);
+		return (int) compact(word & (-1L >>> 63 - last));
+	}
+
+	private int readVar32Slow() throws IOException {
+		for (int value = 0, shift = 0;; shift += 7) {
+			byte b = readByte();
+			value |= (b & 0b01111111) << shift;
+
+			if ((b & 0b10000000) == 0) {
+				return value;
+			}
+
+			if (shift > 32 - 7) {
+				throw new IOException("var32 too big");
+			}
+		}
+	}
+
+	public long readVar64() throws IOException {
+		int p = position;
+
+		if (limit - p < 10) {
+			return readVar64Slow();
+		}
+
+		long word = (long) LONG_LE.get(buffer, p);
+		long stops = ~word & CONTINUATION_BITS;
+
+		if (stops != 0) {
+			int last = Long.numberOfTrailingZeros(stops);
+			position = p + (last + 1 >>> 3);
+			return compact(word & (-1L >>> 63 - last));
+		}
+
+		long value = compact(word);
+		byte b = buffer.get(p + 8);
+		value |= (b & 0b01111111L) << 56;
+
+		if ((b & 0b10000000) == 0) {
+			position = p + 9;
+			return value;
+		}
+
+		b = buffer.get(p + 9);
+		value |= (b & 0b01111111L) << 63;
+
+		if ((b & 0b10000000) != 0) {
+			throw new IOException("var64 too big");
+		}
+
+		position = p + 10;
+		return value;
+	}
+
+	// Squeezes the low 7 bits of 8 little endian bytes into 56 bits, merging neighbouring groups in 3 steps
+	private static long compact(long word) {
+		word &= ~CONTINUATION_BITS;
+		word = (word & 0x7F007F007F007F00L) >>> 1 | (word & 0x007F007F007F007FL);
+		word = (word & 0x3FFF00003FFF0000L) >>> 2 | (word & 0x00003FFF00003FFFL);
+		return (word & 0x0FFFFFFF00000000L) >>> 4 | (word & 0x000000000FFFFFFFL);
+	}
+
+	private long readVar64Slow() throws IOException {
+		long value = 0;
+
+		for (int shift = 0;; shift += 7) {
+			byte b = readByte();
+			value |= (b & 0b01111111L) << shift;
+
+			if ((b & 0b10000000) == 0) {
+				return value;
+			}
+
+			if (shift > 64 - 7) {
+				throw new IOException("var64 too big");
+			}
+		}
+	}
+
+	public long readPrefixVar64() throws IOException {
+		int p = position;
+
+		if (limit - p < 9) {
+			return readPrefixVar64Slow();
+		}
+
+		int length = VarNum.prefixLength(buffer.get(p) & 0xFF);
+		position = p + length;
+
+		if (length == 9) {
+			return buffer.getLong(p + 1);
+		}
+
+		return buffer.getLong(p) >>> 64 - 8 * length & (1L << 7 * length) - 1;
+	}
+
+	private long readPrefixVar64Slow() throws IOException {
+		int first = readUnsignedByte();
+		int length = VarNum.prefixLength(first);
+
+		if (length == 9) {
+			return readLong();
+		}
+
+		long value = first & 0xFF >>> length;
+
+		for (int i = 1; i < length; i++) {
+			value = value << 8 | readUnsignedByte();
+		}
+
+		return value;
+	}
+
+	// Decodes size bytes as UTF-8, straight from the backing array when there is one. The String constructor checks for
+	// ASCII / Latin-1 input and copies it without decoding.
+	public String readUTF8(int size) throws EOFException {
+		return readUTF8(size, null);
+	}
+
+	// Looks the bytes up in cache instead of decoding them if it is not null
+	public String readUTF8(int size, @Nullable Utf8Cache cache) throws EOFException {
+		ensure(size);
+		int p = position;
+
+		if (size <= limit - p && buffer.hasArray()) {
+			position = p + size;
+			int offset = buffer.arrayOffset() + p;
+			return cache != null ? cache.get(buffer.array(), offset, size) : new String(buffer.array(), offset, size, StandardCharsets.UTF_8);
+		}
+
+		// Reused copy target for direct buffers and strings crossing regions
+		if (size <= MAX_SCRATCH_SIZE && scratch == null) {
+			scratch = new byte[MAX_SCRATCH_SIZE];
+		}
+
+		byte[] bytes = size <= MAX_SCRATCH_SIZE ? scratch : new byte[size];
+		readFully(bytes, 0, size);
+		return cache != null ? cache.get(bytes, 0, size) : new String(bytes, 0, size, StandardCharsets.UTF_8);
+	}
+
+	// Decodes dst.length Stream VByte values, straight from the backing array when there is one
+	public void readStreamVByte(int[] dst) throws IOException {
+		int controlSize = StreamVByte.controlSize(dst.length);
+		ensure(controlSize);
+		int p = position;
+
+		if (controlSize <= limit - p && buffer.hasArray()) {
+			byte[] a = buffer.array();
+			int offset = buffer.arrayOffset() + p;
+			int size = controlSize + StreamVByte.dataSize(a, offset, dst.length);
+			ensure(size);
+
+			if (size <= limit - p) {
+				StreamVByte.decode(a, offset, dst);
+				position = p + size;
+				return;
+			}
+		}
+
+		// Direct buffers and arrays crossing regions are copied out first
+		byte[] controls = new byte[controlSize];
+		readFully(controls);
+
+		byte[] bytes = Arrays.copyOf(controls, controlSize + StreamVByte.dataSize(controls, 0, dst.length));
+		readFully(bytes, controlSize, bytes.length - controlSize);
+		StreamVByte.decode(bytes, 0, dst);
+	}
+
+	// Checks that length values remain before allocating, so a corrupt length can't allocate more than the input holds
+	public int[] readI32s(int length) throws EOFException {
+		ensure((long) length << 2);
+		int[] values = new int[length];
+		int p = position;
+
+		if ((long) length << 2 > limit - p) {
+			for (int i = 0; i < length; i++) {
+				values[i] = readInt();
+			}
+
+			return values;
+		}
+
+		for (int i = 0; i < length; i++, p += 4) {
+			values[i] = buffer.getInt(p);
+		}
+
+		position = p;
+		return values;
+	}
+
+	public long[] readI64s(int length) throws EOFException {
+		ensure((long) length << 3);
+		long[] values = new long[length];
+		int p = position;
+
+		if ((long) length << 3 > limit - p) {
+			for (int i = 0; i < length; i++) {
+				values[i] = readLong();
+			}
+
+			return values;
+		}
+
+		for (int i = 0; i < length; i++, p += 8) {
+			values[i] = buffer.getLong(p);
+		}
+
+		position = p;
+		return values;
+	}
+
+	@Override
+	public void readFully(byte @NotNull [] b) throws EOFException {
+		readFully(b, 0, b.length);
+	}
+
+	@Override
+	public void readFully(byte @NotNull [] b, int off, int len) throws EOFException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		ensure(len);
+
+		while (len > 0) {
+			if (position == limit) {
+				nextRegion();
+			}
+
+			int chunk = Math.min(len, limit - position);
+			buffer.get(position, b, off, chunk);
+			position += chunk;
+			off += chunk;
+			len -= chunk;
+		}
+	}
+
+	@Override
+	public int skipBytes(int n) {
+		int skipped = (int) Math.max(0, Math.min(n, remaining()));
+		seek(position() + skipped);
+		return skipped;
+	}
+
+	@Override
+	public boolean readBoolean() throws EOFException {
+		int p = advance(1);
+		return buffer.get(p) != 0;
+	}
+
+	@Override
+	public byte readByte() throws EOFException {
+		int p = advance(1);
+		return buffer.get(p);
+	}
+
+	@Override
+	public int readUnsignedByte() throws EOFException {
+		int p = advance(1);
+		return buffer.get(p) & 0xFF;
+	}
+
+	@Override
+	public short readShort() throws EOFException {
+		int p = advance(2);
+		return buffer.getShort(p);
+	}
+
+	@Override
+	public int readUnsignedShort() throws EOFException {
+		int p = advance(2);
+		return buffer.getShort(p) & 0xFFFF;
+	}
+
+	@Override
+	public char readChar() throws EOFException {
+		int p = advance(2);
+		return buffer.getChar(p);
+	}
+
+	@Override
+	public int readInt() throws EOFException {
+		int p = advance(4);
+		return buffer.getInt(p);
+	}
+
+	@Override
+	public long readLong() throws EOFException {
+		int p = advance(8);
+		return buffer.getLong(p);
+	}
+
+	@Override
+	public float readFloat() throws EOFException {
+		int p = advance(4);
+		return buffer.getFloat(p);
+	}
+
+	@Override
+	public double readDouble() throws EOFException {
+		int p = advance(8);
+		return buffer.getDouble(p);
+	}
+
+	@Nullable
+	@Override
+	public String readLine() throws EOFException {
+		if (!hasRemaining()) {
+			return null;
+		}
+
+		StringBuilder sb = new StringBuilder();
+
+		while (hasRemaining()) {
+			int c = readUnsignedByte();
+
+			if (c == '\n') {
+				break;
+			}
+
+			if (c == '\r') {
+				if (hasRemaining() && readUnsignedByte() != '\n') {
+					seek(position() - 1);
+				}
+
+				break;
+			}
+
+			sb.append((char) c);
+		}
+
+		return sb.toString();
+	}
+
+	@NotNull
+	@Override
+	public String readUTF() throws IOException {
+		return DataInputStream.readUTF(this);
+	}
+
+	// Thrown instead of a fresh EOFException in partial mode, running out of bytes is expected there
+	static final class Underflow extends EOFException {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		static final Underflow INSTANCE = new Underflow();
+
+		private Underflow() {
+			super("not enough bytes buffered yet");
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+	}
+
+}
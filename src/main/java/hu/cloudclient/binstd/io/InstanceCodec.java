@@ -16,4 +16,9 @@ public record InstanceCodec<T>(T instance) implements Codec<T> {
 		}
 	}
 
+	@Override
+	public int fixedSize() {
+		return 0;
+	}
+
 }
@@ -0,0 +1,63 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.util.function.ToIntFunction;
+
+public interface IntCodec extends Codec<Integer> {
+
+	int decodeInt(DataInputWrapper in) throws IOException;
+
+	void encodeInt(DataOutputWrapper out, int value) throws IOException;
+
+	default int encodedIntSize(int value) throws IOException {
+		return Codec.super.encodedSize(value);
+	}
+
+	@Override
+	default Integer decode(DataInputWrapper in) throws IOException {
+		return decodeInt(in);
+	}
+
+	@Override
+	default void encode(DataOutputWrapper out, Integer value) throws IOException {
+		encodeInt(out, value);
+	}
+
+	@Override
+	default int encodedSize(Integer value) throws IOException {
+		return encodedIntSize(value);
+	}
+
+	default <O> FieldCodec<O, Integer> intField(ToIntFunction<? super O> getter) {
+		return new FieldCodec<>() {
+
+			@Override
+			public Integer decode(DataInputWrapper in) throws IOException {
+				return decodeInt(in);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				IntCodec.this.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, O owner) throws IOException {
+				encodeInt(out, getter.applyAsInt(owner));
+			}
+
+			@Override
+			public int encodedSize(O owner) throws IOException {
+				int fixedSize = fixedSize();
+				return fixedSize != VARIABLE_SIZE ? fixedSize : encodedIntSize(getter.applyAsInt(owner));
+			}
+
+			@Override
+			public int fixedSize() {
+				return IntCodec.this.fixedSize();
+			}
+
+		};
+	}
+
+}
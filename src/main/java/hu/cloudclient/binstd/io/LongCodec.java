@@ -0,0 +1,63 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.util.function.ToLongFunction;
+
+public interface LongCodec extends Codec<Long> {
+
+	long decodeLong(DataInputWrapper in) throws IOException;
+
+	void encodeLong(DataOutputWrapper out, long value) throws IOException;
+
+	default int encodedLongSize(long value) throws IOException {
+		return Codec.super.encodedSize(value);
+	}
+
+	@Override
+	default Long decode(DataInputWrapper in) throws IOException {
+		return decodeLong(in);
+	}
+
+	@Override
+	default void encode(DataOutputWrapper out, Long value) throws IOException {
+		encodeLong(out, value);
+	}
+
+	@Override
+	default int encodedSize(Long value) throws IOException {
+		return encodedLongSize(value);
+	}
+
+	default <O> FieldCodec<O, Long> longField(ToLongFunction<? super O> getter) {
+		return new FieldCodec<>() {
+
+			@Override
+			public Long decode(DataInputWrapper in) throws IOException {
+				return decodeLong(in);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				LongCodec.this.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, O owner) throws IOException {
+				encodeLong(out, getter.applyAsLong(owner));
+			}
+
+			@Override
+			public int encodedSize(O owner) throws IOException {
+				int fixedSize = fixedSize();
+				return fixedSize != VARIABLE_SIZE ? fixedSize : encodedLongSize(getter.applyAsLong(owner));
+			}
+
+			@Override
+			public int fixedSize() {
+				return LongCodec.this.fixedSize();
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,140 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+
+// Record codec that reads components through accessor and constructor handles adapted to Object, invoked exactly
+final class MethodHandleRecordCodec<R extends Record> implements RecordCodec<R> {
+
+	private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final Codec<Object>[] codecs;
+	private final List<Decoder<?>> fields;
+	private final MethodHandle[] accessors;
+	private final MethodHandle constructor;
+	private final int fixedSize;
+
+	@SuppressWarnings("unchecked")
+	MethodHandleRecordCodec(MethodHandles.Lookup lookup, Class<R> type, Codec<?>... codecs) {
+		RecordComponent[] components = components(type, codecs);
+		Class<?>[] types = new Class<?>[components.length];
+
+		this.codecs = (Codec<Object>[]) codecs.clone();
+		this.fields = List.of(codecs);
+		this.accessors = new MethodHandle[components.length];
+
+		try {
+			for (int i = 0; i < components.length; i++) {
+				types[i] = components[i].getType();
+				accessors[i] = lookup.unreflect(components[i].getAccessor()).asType(ACCESSOR_TYPE);
+			}
+
+			this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types))
+				.asType(MethodType.genericMethodType(types.length))
+				.asSpreader(Object[].class, types.length);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalArgumentException(type + " is not accessible from " + lookup, e);
+		}
+
+		this.fixedSize = Encoder.fixedSizeOf(codecs);
+	}
+
+	static RecordComponent[] components(Class<?> type, Codec<?>[] codecs) {
+		RecordComponent[] components = type.getRecordComponents();
+
+		if (components == null) {
+			throw new IllegalArgumentException(type + " is not a record");
+		}
+
+		if (components.length != codecs.length) {
+			throw new IllegalArgumentException(type + " has " + components.length + " components, but " + codecs.length + " codecs were given");
+		}
+
+		return components;
+	}
+
+	static IOException rethrow(Throwable t) {
+		if (t instanceof RuntimeException e) {
+			throw e;
+		}
+
+		if (t instanceof Error e) {
+			throw e;
+		}
+
+		return t instanceof IOException e ? e : new IOException(t);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public R decode(DataInputWrapper in) throws IOException {
+		Object[] values = new Object[codecs.length];
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = codecs[i].decode(in);
+		}
+
+		try {
+			return (R) (Object) constructor.invokeExact(values);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+
+	@Override
+	public void skip(DataInputWrapper in) throws IOException {
+		if (fixedSize != VARIABLE_SIZE) {
+			in.skipFully(fixedSize);
+			return;
+		}
+
+		for (Codec<Object> codec : codecs) {
+			codec.skip(in);
+		}
+	}
+
+	@Override
+	public void encode(DataOutputWrapper out, R value) throws IOException {
+		for (int i = 0; i < codecs.length; i++) {
+			codecs[i].encode(out, get(i, value));
+		}
+	}
+
+	@Override
+	public int fixedSize() {
+		return fixedSize;
+	}
+
+	@Override
+	public List<Decoder<?>> fields() {
+		return fields;
+	}
+
+	@Override
+	public int encodedSize(R value) throws IOException {
+		if (fixedSize != VARIABLE_SIZE) {
+			return fixedSize;
+		}
+
+		int size = 0;
+
+		for (int i = 0; i < codecs.length; i++) {
+			size += codecs[i].encodedSize(get(i, value));
+		}
+
+		return size;
+	}
+
+	private Object get(int i, R value) throws IOException {
+		try {
+			return (Object) accessors[i].invokeExact((Object) value);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+
+}
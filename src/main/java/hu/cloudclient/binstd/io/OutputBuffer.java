@@ -0,0 +1,291 @@
+package hu.cloudclient.binstd.io;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// Unsynchronized, growable replacement for ByteArrayDataOutput. Not thread safe.
+public final class OutputBuffer implements DataOutput {
+
+	private static final VarHandle I16 = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle I32 = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle I64 = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final int DEFAULT_CAPACITY = 64;
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private byte[] array;
+	private int size;
+
+	public OutputBuffer(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("negative capacity: " + initialCapacity);
+		}
+
+		this.array = new byte[initialCapacity];
+	}
+
+	public OutputBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int capacity() {
+		return array.length;
+	}
+
+	// The backing array, valid up to size(). Replaced when the buffer grows.
+	public byte[] array() {
+		return array;
+	}
+
+	public void reset() {
+		size = 0;
+	}
+
+	public void ensureCapacity(int additional) {
+		if (additional > array.length - size) {
+			grow(additional);
+		}
+	}
+
+	private void grow(int additional) {
+		int required = size + additional;
+
+		if (required < 0 || required > MAX_CAPACITY) {
+			throw new OutOfMemoryError("required capacity " + Integer.toUnsignedString(required) + " is too large");
+		}
+
+		int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(required, Math.max(DEFAULT_CAPACITY, array.length * 2L)));
+		array = Arrays.copyOf(array, newCapacity);
+	}
+
+	public byte[] toByteArray() {
+		return Arrays.copyOf(array, size);
+	}
+
+	// A read-only view of the written bytes, shares the backing array until the next growth.
+	public ByteBuffer toByteBuffer() {
+		return ByteBuffer.wrap(array, 0, size).asReadOnlyBuffer();
+	}
+
+	public void writeVar32(int value) {
+		ensureCapacity(5);
+		byte[] a = array;
+		int p = size;
+
+		while ((value & ~0b01111111) != 0) {
+			a[p++] = (byte) (value & 0b01111111 | 0b10000000);
+			value >>>= 7;
+		}
+
+		a[p++] = (byte) value;
+		size = p;
+	}
+
+	public void writeVar64(long value) {
+		ensureCapacity(10);
+		byte[] a = array;
+		int p = size;
+
+		while ((value & ~0b01111111L) != 0) {
+			a[p++] = (byte) (value & 0b01111111 | 0b10000000);
+			value >>>= 7;
+		}
+
+		a[p++] = (byte) value;
+		size = p;
+	}
+
+	public void writePrefixVar64(long value) {
+		ensureCapacity(9);
+		byte[] a = array;
+		int p = size;
+		int length = VarNum.sizeOfPrefix(value);
+
+		if (length == 9) {
+			a[p] = (byte) 0xFF;
+			I64.set(a, p + 1, value);
+		} else {
+			// Only the first length bytes of the long are kept
+			I64.set(a, p, VarNum.prefixed(value, length) << 64 - 8 * length);
+		}
+
+		size = p + length;
+	}
+
+	// Var-int byte length, then the string encoded straight into the array
+	public void writeUTF8(String value) {
+		int length = Utf8.encodedLength(value);
+		writeVar32(length);
+		ensureCapacity(length);
+		size = Utf8.encode(value, array, size);
+	}
+
+	public void writeI32s(int[] values) {
+		ensureCapacity(Math.multiplyExact(values.length, 4));
+		byte[] a = array;
+		int p = size;
+
+		for (int value : values) {
+			I32.set(a, p, value);
+			p += 4;
+		}
+
+		size = p;
+	}
+
+	// Control bytes and data encoded straight into the array
+	public void writeStreamVByte(int[] values) {
+		ensureCapacity(Math.addExact(StreamVByte.sizeOf(values), StreamVByte.PADDING));
+		size = StreamVByte.encode(values, array, size);
+	}
+
+	public void writeI64s(long[] values) {
+		ensureCapacity(Math.multiplyExact(values.length, 8));
+		byte[] a = array;
+		int p = size;
+
+		for (long value : values) {
+			I64.set(a, p, value);
+			p += 8;
+		}
+
+		size = p;
+	}
+
+	@Override
+	public void write(int b) {
+		ensureCapacity(1);
+		array[size++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte @NotNull [] b) {
+		write(b, 0, b.length);
+	}
+
+	@Override
+	public void write(byte @NotNull [] b, int off, int len) {
+		ensureCapacity(len);
+		System.arraycopy(b, off, array, size, len);
+		size += len;
+	}
+
+	@Override
+	public void writeBoolean(boolean v) {
+		write(v ? 1 : 0);
+	}
+
+	@Override
+	public void writeByte(int v) {
+		write(v);
+	}
+
+	@Override
+	public void writeShort(int v) {
+		ensureCapacity(2);
+		I16.set(array, size, (short) v);
+		size += 2;
+	}
+
+	@Override
+	public void writeChar(int v) {
+		writeShort(v);
+	}
+
+	@Override
+	public void writeInt(int v) {
+		ensureCapacity(4);
+		I32.set(array, size, v);
+		size += 4;
+	}
+
+	@Override
+	public void writeLong(long v) {
+		ensureCapacity(8);
+		I64.set(array, size, v);
+		size += 8;
+	}
+
+	@Override
+	public void writeFloat(float v) {
+		writeInt(Float.floatToIntBits(v));
+	}
+
+	@Override
+	public void writeDouble(double v) {
+		writeLong(Double.doubleToLongBits(v));
+	}
+
+	@Override
+	public void writeBytes(@NotNull String s) {
+		int length = s.length();
+		ensureCapacity(length);
+
+		for (int i = 0; i < length; i++) {
+			array[size++] = (byte) s.charAt(i);
+		}
+	}
+
+	@Override
+	public void writeChars(@NotNull String s) {
+		int length = s.length();
+		ensureCapacity(Math.multiplyExact(length, 2));
+
+		for (int i = 0; i < length; i++) {
+			I16.set(array, size, (short) s.charAt(i));
+			size += 2;
+		}
+	}
+
+	@Override
+	public void writeUTF(@NotNull String s) throws UTFDataFormatException {
+		int length = s.length();
+		int utfLength = length;
+
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+
+			if (c >= 0x80 || c == 0) {
+				utfLength += c >= 0x800 ? 2 : 1;
+			}
+		}
+
+		if (utfLength > 0xFFFF) {
+			throw new UTFDataFormatException("encoded string too long: " + utfLength + " bytes");
+		}
+
+		writeShort(utfLength);
+		ensureCapacity(utfLength);
+		byte[] a = array;
+		int p = size;
+
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+
+			if (c != 0 && c < 0x80) {
+				a[p++] = (byte) c;
+			} else if (c < 0x800) {
+				a[p++] = (byte) (0xC0 | c >> 6);
+				a[p++] = (byte) (0x80 | c & 0x3F);
+			} else {
+				a[p++] = (byte) (0xE0 | c >> 12);
+				a[p++] = (byte) (0x80 | c >> 6 & 0x3F);
+				a[p++] = (byte) (0x80 | c & 0x3F);
+			}
+		}
+
+		size = p;
+	}
+
+}
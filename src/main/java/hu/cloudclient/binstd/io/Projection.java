@@ -0,0 +1,119 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Decodes some fields of a record and skips the rest, see RecordCodec.project. Decoded values are returned in the
+// order the fields were selected in, or passed to a FieldConsumer in the order they are stored. Consecutive skipped
+// fields of a fixed size are skipped in one go.
+public final class Projection implements Decoder<Object[]> {
+
+	private final Step[] steps;
+	private final int[] fields;
+
+	Projection(List<Decoder<?>> decoders, int[] fields) {
+		int[] slots = new int[decoders.size()];
+		Arrays.fill(slots, -1);
+
+		for (int i = 0; i < fields.length; i++) {
+			int field = fields[i];
+
+			if (field < 0 || field >= slots.length) {
+				throw new IllegalArgumentException("field " + field + " is out of bounds for " + slots.length + " fields");
+			}
+
+			if (slots[field] != -1) {
+				throw new IllegalArgumentException("field " + field + " is selected more than once");
+			}
+
+			slots[field] = i;
+		}
+
+		List<Step> steps = new ArrayList<>();
+		int pendingSize = 0;
+
+		for (int field = 0; field < slots.length; field++) {
+			Decoder<?> decoder = decoders.get(field);
+			int fixedSize = decoder instanceof Encoder<?> encoder ? encoder.fixedSize() : Encoder.VARIABLE_SIZE;
+
+			if (slots[field] == -1 && fixedSize != Encoder.VARIABLE_SIZE) {
+				pendingSize += fixedSize;
+				continue;
+			}
+
+			if (pendingSize > 0) {
+				steps.add(new Step(null, -1, -1, pendingSize));
+				pendingSize = 0;
+			}
+
+			steps.add(new Step(decoder, field, slots[field], fixedSize));
+		}
+
+		if (pendingSize > 0) {
+			steps.add(new Step(null, -1, -1, pendingSize));
+		}
+
+		this.steps = steps.toArray(Step[]::new);
+		this.fields = fields.clone();
+	}
+
+	// The selected field indices
+	public int[] fields() {
+		return fields.clone();
+	}
+
+	@Override
+	public Object[] decode(DataInputWrapper in) throws IOException {
+		Object[] values = new Object[fields.length];
+
+		for (Step step : steps) {
+			if (step.slot != -1) {
+				values[step.slot] = step.decoder.decode(in);
+			} else {
+				step.skip(in);
+			}
+		}
+
+		return values;
+	}
+
+	public void decode(DataInputWrapper in, FieldConsumer consumer) throws IOException {
+		for (Step step : steps) {
+			if (step.slot != -1) {
+				consumer.accept(step.field, step.decoder.decode(in));
+			} else {
+				step.skip(in);
+			}
+		}
+	}
+
+	@Override
+	public void skip(DataInputWrapper in) throws IOException {
+		for (Step step : steps) {
+			step.skip(in);
+		}
+	}
+
+	@FunctionalInterface
+	public interface FieldConsumer {
+
+		void accept(int field, Object value) throws IOException;
+
+	}
+
+	// Either a field (slot is its index in the decoded values or -1 if it's skipped) or a run of fixed size fields
+	private record Step(Decoder<?> decoder, int field, int slot, int size) {
+
+		void skip(DataInputWrapper in) throws IOException {
+			if (size != Encoder.VARIABLE_SIZE) {
+				in.skipFully(size);
+			} else {
+				decoder.skip(in);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,17 @@
+package hu.cloudclient.binstd.io;
+
+import java.util.List;
+
+// Codec of a record-like type stored as its fields one after the other, see Codec.rec and Codec.forRecord.
+// The fields can be decoded on their own, which lets projections read a few of them and skip the rest.
+public interface RecordCodec<T> extends Codec<T> {
+
+	// Decoders of the fields in the order they are stored
+	List<Decoder<?>> fields();
+
+	// Decodes only the fields at the given indices of fields()
+	default Projection project(int... fields) {
+		return new Projection(fields(), fields);
+	}
+
+}
@@ -0,0 +1,301 @@
+package hu.cloudclient.binstd.io;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static hu.cloudclient.binstd.io.ClassFileWriter.*;
+
+// Compiles a record codec into a hidden class with straight-line decode / encode methods. Components whose codec is
+// one of the Codecs constants below are read and written by calling DataInputWrapper / DataOutputWrapper directly,
+// primitive components use the unboxed methods of IntCodec & co., everything else goes through Codec.
+public final class RecordCodecCompiler {
+
+	private static final String OBJECT = "java/lang/Object";
+	private static final String CODEC = internalName(Codec.class);
+	private static final String RECORD_CODEC = internalName(RecordCodec.class);
+	private static final String IN = internalName(DataInputWrapper.class);
+	private static final String OUT = internalName(DataOutputWrapper.class);
+
+	private record Direct(Class<?> type, String read, String write, Class<?> writeType) {}
+
+	private static final Map<Codec<?>, Direct> DIRECT = Map.ofEntries(
+		Map.entry(Codecs.BOOL, new Direct(boolean.class, "readBool", "writeBool", boolean.class)),
+		Map.entry(Codecs.I8, new Direct(byte.class, "readI8", "writeI8", int.class)),
+		Map.entry(Codecs.U8, new Direct(int.class, "readU8", "writeI8", int.class)),
+		Map.entry(Codecs.I16, new Direct(short.class, "readI16", "writeI16", int.class)),
+		Map.entry(Codecs.U16, new Direct(int.class, "readU16", "writeI16", int.class)),
+		Map.entry(Codecs.I32, new Direct(int.class, "readI32", "writeI32", int.class)),
+		Map.entry(Codecs.I64, new Direct(long.class, "readI64", "writeI64", long.class)),
+		Map.entry(Codecs.VAR32, new Direct(int.class, "readVar32", "writeVar32", int.class)),
+		Map.entry(Codecs.VAR64, new Direct(long.class, "readVar64", "writeVar64", long.class)),
+		Map.entry(Codecs.SVAR32, new Direct(int.class, "readSVar32", "writeSVar32", int.class)),
+		Map.entry(Codecs.SVAR64, new Direct(long.class, "readSVar64", "writeSVar64", long.class)),
+		Map.entry(Codecs.PREFIX_VAR32, new Direct(int.class, "readPrefixVar32", "writePrefixVar32", int.class)),
+		Map.entry(Codecs.PREFIX_VAR64, new Direct(long.class, "readPrefixVar64", "writePrefixVar64", long.class)),
+		Map.entry(Codecs.F32, new Direct(float.class, "readF32", "writeF32", float.class)),
+		Map.entry(Codecs.F64, new Direct(double.class, "readF64", "writeF64", double.class)),
+		Map.entry(Codecs.UTF8, new Direct(String.class, "readUTF8", "writeUTF8", String.class)),
+		Map.entry(Codecs.UUID, new Direct(UUID.class, "readUUID", "writeUUID", UUID.class))
+	);
+
+	private record Specialized(Class<?> codecType, Class<?> type, String name) {}
+
+	private static final List<Specialized> SPECIALIZED = List.of(
+		new Specialized(BooleanCodec.class, boolean.class, "Boolean"),
+		new Specialized(IntCodec.class, int.class, "Int"),
+		new Specialized(LongCodec.class, long.class, "Long"),
+		new Specialized(FloatCodec.class, float.class, "Float"),
+		new Specialized(DoubleCodec.class, double.class, "Double")
+	);
+
+	private RecordCodecCompiler() {}
+
+	// lookup must have full privilege access to a class in the package the codec should live in, usually the record's.
+	// Falls back to a MethodHandle based codec if it doesn't or isn't allowed to define classes. A class that fails to
+	// load or link is a bug in the generated code and is thrown as is.
+	public static <R extends Record> RecordCodec<R> compile(MethodHandles.Lookup lookup, Class<R> type, Codec<?>... codecs) {
+		if (!lookup.hasFullPrivilegeAccess() || type.isHidden()) {
+			return new MethodHandleRecordCodec<>(lookup, type, codecs);
+		}
+
+		try {
+			lookup.accessClass(type);
+		} catch (IllegalAccessException e) {
+			throw new IllegalArgumentException(type + " is not accessible from " + lookup, e);
+		}
+
+		byte[] bytes = generate(lookup, type, codecs);
+		MethodHandles.Lookup hidden;
+
+		try {
+			hidden = lookup.defineHiddenClassWithClassData(bytes, List.of(codecs), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+		} catch (IllegalAccessException | SecurityException | UnsupportedOperationException e) {
+			return new MethodHandleRecordCodec<>(lookup, type, codecs);
+		}
+
+		try {
+			MethodHandle constructor = hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class));
+
+			@SuppressWarnings("unchecked")
+			RecordCodec<R> codec = (RecordCodec<R>) constructor.invoke();
+			return codec;
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			// The generated constructor is public and throws nothing
+			throw new IllegalStateException("can't instantiate " + hidden.lookupClass(), t);
+		}
+	}
+
+	private static byte[] generate(MethodHandles.Lookup lookup, Class<?> type, Codec<?>[] codecs) {
+		RecordComponent[] components = MethodHandleRecordCodec.components(type, codecs);
+		String packageName = lookup.lookupClass().getPackageName().replace('.', '/');
+		String name = (packageName.isEmpty() ? "" : packageName + "/") + type.getSimpleName() + "$Codec";
+		String record = internalName(type);
+		String[] codecTypes = new String[codecs.length];
+		Specialized[] specialized = new Specialized[codecs.length];
+
+		ClassFileWriter writer = new ClassFileWriter(name, OBJECT, RECORD_CODEC);
+		writer.field(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "fields", "Ljava/util/List;");
+
+		for (int i = 0; i < codecs.length; i++) {
+			specialized[i] = specialized(codecs[i], components[i].getType());
+			codecTypes[i] = specialized[i] != null ? internalName(specialized[i].codecType) : CODEC;
+			writer.field(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "c" + i, 'L' + codecTypes[i] + ';');
+		}
+
+		ClassFileWriter.Code clinit = writer.method(ACC_STATIC, "<clinit>", "()V", 1)
+			.invoke(INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;")
+			.ldc(writer.string("_"))
+			.ldc(writer.classRef("java/util/List"))
+			.invoke(INVOKESTATIC, "java/lang/invoke/MethodHandles", "classData", "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;")
+			.type(CHECKCAST, "java/util/List")
+			.astore(0)
+			.aload(0)
+			.field(PUTSTATIC, name, "fields", "Ljava/util/List;");
+
+		for (int i = 0; i < codecs.length; i++) {
+			clinit.aload(0)
+				.iconst(i)
+				.invoke(INVOKEINTERFACE, "java/util/List", "get", "(I)Ljava/lang/Object;")
+				.type(CHECKCAST, codecTypes[i])
+				.field(PUTSTATIC, name, "c" + i, 'L' + codecTypes[i] + ';');
+		}
+
+		clinit.op(RETURN, 0);
+
+		writer.method(ACC_PUBLIC, "<init>", "()V", 1)
+			.aload(0)
+			.invoke(INVOKESPECIAL, OBJECT, "<init>", "()V")
+			.op(RETURN, 0);
+
+		writer.method(ACC_PUBLIC, "fields", "()Ljava/util/List;", 1)
+			.field(GETSTATIC, name, "fields", "Ljava/util/List;")
+			.op(ARETURN, -1);
+
+		StringBuilder constructor = new StringBuilder("(");
+		ClassFileWriter.Code decode = writer.method(ACC_PUBLIC, "decode", "(L" + IN + ";)Ljava/lang/Object;", 2)
+			.type(NEW, record)
+			.op(DUP, 1);
+
+		for (int i = 0; i < codecs.length; i++) {
+			Class<?> componentType = components[i].getType();
+			Direct direct = direct(codecs[i], componentType);
+			constructor.append(componentType.descriptorString());
+
+			if (direct != null) {
+				decode.aload(1).invoke(INVOKEVIRTUAL, IN, direct.read, "()" + direct.type.descriptorString());
+			} else if (specialized[i] != null) {
+				decode.field(GETSTATIC, name, "c" + i, 'L' + codecTypes[i] + ';')
+					.aload(1)
+					.invoke(INVOKEINTERFACE, codecTypes[i], "decode" + specialized[i].name, "(L" + IN + ";)" + componentType.descriptorString());
+			} else {
+				decode.field(GETSTATIC, name, "c" + i, 'L' + CODEC + ';')
+					.aload(1)
+					.invoke(INVOKEINTERFACE, CODEC, "decode", "(L" + IN + ";)Ljava/lang/Object;");
+				unbox(decode, componentType);
+			}
+		}
+
+		decode.invoke(INVOKESPECIAL, record, "<init>", constructor.append(")V").toString())
+			.op(ARETURN, -1);
+
+		ClassFileWriter.Code encode = writer.method(ACC_PUBLIC, "encode", "(L" + OUT + ";Ljava/lang/Object;)V", 4)
+			.aload(2)
+			.type(CHECKCAST, record)
+			.astore(3);
+
+		for (int i = 0; i < codecs.length; i++) {
+			Class<?> componentType = components[i].getType();
+			Direct direct = direct(codecs[i], componentType);
+
+			if (direct != null) {
+				encode.aload(1);
+				get(encode, 3, record, components[i]);
+				encode.invoke(INVOKEVIRTUAL, OUT, direct.write, "(" + direct.writeType.descriptorString() + ")V");
+			} else if (specialized[i] != null) {
+				encode.field(GETSTATIC, name, "c" + i, 'L' + codecTypes[i] + ';').aload(1);
+				get(encode, 3, record, components[i]);
+				encode.invoke(INVOKEINTERFACE, codecTypes[i], "encode" + specialized[i].name, "(L" + OUT + ';' + componentType.descriptorString() + ")V");
+			} else {
+				encode.field(GETSTATIC, name, "c" + i, 'L' + CODEC + ';').aload(1);
+				get(encode, 3, record, components[i]);
+				box(encode, componentType);
+				encode.invoke(INVOKEINTERFACE, CODEC, "encode", "(L" + OUT + ";Ljava/lang/Object;)V");
+			}
+		}
+
+		encode.op(RETURN, 0);
+
+		int fixedSize = Encoder.fixedSizeOf(codecs);
+
+		writer.method(ACC_PUBLIC, "fixedSize", "()I", 1)
+			.iconst(fixedSize)
+			.op(IRETURN, -1);
+
+		ClassFileWriter.Code skip = writer.method(ACC_PUBLIC, "skip", "(L" + IN + ";)V", 2);
+
+		if (fixedSize != Encoder.VARIABLE_SIZE) {
+			skip.aload(1)
+				.iconst(fixedSize)
+				.op(I2L, 1)
+				.invoke(INVOKEVIRTUAL, IN, "skipFully", "(J)V");
+		} else {
+			for (int i = 0; i < codecs.length; i++) {
+				skip.field(GETSTATIC, name, "c" + i, 'L' + codecTypes[i] + ';')
+					.aload(1)
+					.invoke(INVOKEINTERFACE, CODEC, "skip", "(L" + IN + ";)V");
+			}
+		}
+
+		skip.op(RETURN, 0);
+
+		ClassFileWriter.Code encodedSize = writer.method(ACC_PUBLIC, "encodedSize", "(Ljava/lang/Object;)I", 3);
+
+		if (fixedSize != Encoder.VARIABLE_SIZE) {
+			encodedSize.iconst(fixedSize).op(IRETURN, -1);
+		} else {
+			int constantSize = 0;
+
+			for (Codec<?> codec : codecs) {
+				constantSize += Math.max(0, codec.fixedSize());
+			}
+
+			encodedSize.aload(1)
+				.type(CHECKCAST, record)
+				.astore(2)
+				.iconst(constantSize);
+
+			for (int i = 0; i < codecs.length; i++) {
+				if (codecs[i].fixedSize() != Encoder.VARIABLE_SIZE) {
+					continue;
+				}
+
+				Class<?> componentType = components[i].getType();
+				encodedSize.field(GETSTATIC, name, "c" + i, 'L' + codecTypes[i] + ';');
+
+				if (specialized[i] != null) {
+					get(encodedSize, 2, record, components[i]);
+					encodedSize.invoke(INVOKEINTERFACE, codecTypes[i], "encoded" + specialized[i].name + "Size", "(" + componentType.descriptorString() + ")I");
+				} else {
+					get(encodedSize, 2, record, components[i]);
+					box(encodedSize, componentType);
+					encodedSize.invoke(INVOKEINTERFACE, CODEC, "encodedSize", "(Ljava/lang/Object;)I");
+				}
+
+				encodedSize.op(IADD, -1);
+			}
+
+			encodedSize.op(IRETURN, -1);
+		}
+
+		return writer.toByteArray();
+	}
+
+	private static Direct direct(Codec<?> codec, Class<?> componentType) {
+		Direct direct = DIRECT.get(codec);
+		return direct != null && direct.type == componentType ? direct : null;
+	}
+
+	private static Specialized specialized(Codec<?> codec, Class<?> componentType) {
+		for (Specialized specialized : SPECIALIZED) {
+			if (specialized.type == componentType && specialized.codecType.isInstance(codec)) {
+				return specialized;
+			}
+		}
+
+		return null;
+	}
+
+	private static void get(ClassFileWriter.Code code, int local, String record, RecordComponent component) {
+		code.aload(local)
+			.invoke(INVOKEVIRTUAL, record, component.getAccessor().getName(), "()" + component.getType().descriptorString());
+	}
+
+	private static void box(ClassFileWriter.Code code, Class<?> type) {
+		if (type.isPrimitive()) {
+			Class<?> wrapper = MethodType.methodType(type).wrap().returnType();
+			code.invoke(INVOKESTATIC, internalName(wrapper), "valueOf", "(" + type.descriptorString() + ")" + wrapper.descriptorString());
+		}
+	}
+
+	private static void unbox(ClassFileWriter.Code code, Class<?> type) {
+		if (type.isPrimitive()) {
+			Class<?> wrapper = MethodType.methodType(type).wrap().returnType();
+			code.type(CHECKCAST, internalName(wrapper))
+				.invoke(INVOKEVIRTUAL, internalName(wrapper), type.getName() + "Value", "()" + type.descriptorString());
+		} else {
+			code.type(CHECKCAST, internalName(type));
+		}
+	}
+
+	private static String internalName(Class<?> type) {
+		return type.isArray() ? type.descriptorString() : type.getName().replace('.', '/');
+	}
+
+}
@@ -0,0 +1,120 @@
+package hu.cloudclient.binstd.io;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+// Maps a file written by RecordFileWriter and reads records by index or key without going through the ones before.
+// Every lookup reads through its own cursor over the mapping, so a reader can be shared between threads.
+public final class RecordFileReader<T> implements Closeable {
+
+	private final FileChannel channel;
+	private final Codec<T> codec;
+	private final InputBuffer mapped;
+	private final long offsets;
+	private final long keys;
+	private final long indices;
+	private final int count;
+	private final boolean keyed;
+
+	public RecordFileReader(FileChannel channel, Codec<T> codec) throws IOException {
+		this.channel = channel;
+		this.codec = codec;
+
+		long size = channel.size();
+
+		if (size < RecordFileWriter.TRAILER_SIZE) {
+			throw new IOException("file of " + size + " bytes is too small to be a record file");
+		}
+
+		this.mapped = InputBuffer.map(channel);
+		mapped.position(size - RecordFileWriter.TRAILER_SIZE);
+
+		this.offsets = mapped.readLong();
+		this.count = mapped.readInt();
+		this.keyed = mapped.readBoolean();
+
+		if (mapped.readInt() != RecordFileWriter.MAGIC) {
+			throw new IOException("not a record file");
+		}
+
+		this.keys = offsets + 8L * count;
+		this.indices = keyed ? keys + 8L * count : keys;
+
+		if (count < 0 || offsets < 0 || indices + (keyed ? 4L * count : 0) != size - RecordFileWriter.TRAILER_SIZE) {
+			throw new IOException("corrupt record file footer");
+		}
+	}
+
+	public int count() {
+		return count;
+	}
+
+	public boolean keyed() {
+		return keyed;
+	}
+
+	public T get(int index) throws IOException {
+		InputBuffer in = mapped.duplicate();
+		in.position(offsets + 8L * checkIndex(index));
+		in.position(in.readLong());
+		return codec.decode(new DataInputWrapper(in));
+	}
+
+	// Index of the first record with key, or -1 if there is none
+	public int indexOf(long key) throws IOException {
+		if (!keyed) {
+			throw new IllegalStateException("record file has no key index");
+		}
+
+		InputBuffer in = mapped.duplicate();
+		int low = 0;
+		int high = count;
+
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			in.position(keys + 8L * middle);
+
+			if (in.readLong() < key) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		if (low == count) {
+			return -1;
+		}
+
+		in.position(keys + 8L * low);
+
+		if (in.readLong() != key) {
+			return -1;
+		}
+
+		in.position(indices + 4L * low);
+		return in.readInt();
+	}
+
+	@Nullable
+	public T find(long key) throws IOException {
+		int index = indexOf(key);
+		return index != -1 ? get(index) : null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("record " + index + " is out of bounds for " + count + " records");
+		}
+
+		return index;
+	}
+
+}
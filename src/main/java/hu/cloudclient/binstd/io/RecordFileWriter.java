@@ -0,0 +1,181 @@
+package hu.cloudclient.binstd.io;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.function.ToLongFunction;
+
+// Appends records to a file that RecordFileReader reads at random. The records are followed by the footer:
+// the offset of every record (I64), if keyed the keys in ascending order (I64) and the index of the record with each
+// key (I32), then the trailer: the offset of the footer (I64), the record count (I32), whether it's keyed (BOOL) and
+// MAGIC (I32). Offsets are positions in the file, writing starts at the channel's position. Closing writes the footer.
+public final class RecordFileWriter<T> implements Closeable {
+
+	static final int MAGIC = 0x42535246;
+	static final int TRAILER_SIZE = 8 + 4 + 1 + 4;
+	private static final int FLUSH_SIZE = 1 << 16;
+
+	private final FileChannel channel;
+	private final Codec<T> codec;
+	@Nullable
+	private final ToLongFunction<? super T> key;
+	private final OutputBuffer buffer = new OutputBuffer(FLUSH_SIZE);
+	private final DataOutputWrapper out = new DataOutputWrapper(buffer);
+
+	private final long start;
+	private long written;
+	private long[] offsets = new long[16];
+	private long @Nullable [] keys;
+	private int count;
+
+	public RecordFileWriter(FileChannel channel, Codec<T> codec) throws IOException {
+		this(channel, codec, null);
+	}
+
+	// key is stored for every record, so RecordFileReader.find can binary search it
+	public RecordFileWriter(FileChannel channel, Codec<T> codec, @Nullable ToLongFunction<? super T> key) throws IOException {
+		this.channel = channel;
+		this.codec = codec;
+		this.key = key;
+		this.start = channel.position();
+		this.keys = key != null ? new long[16] : null;
+	}
+
+	// Returns the index of the record
+	public int append(T value) throws IOException {
+		if (count == offsets.length) {
+			offsets = Arrays.copyOf(offsets, count * 2);
+
+			if (keys != null) {
+				keys = Arrays.copyOf(keys, count * 2);
+			}
+		}
+
+		offsets[count] = start + written + buffer.size();
+
+		if (key != null) {
+			keys[count] = key.applyAsLong(value);
+		}
+
+		codec.encode(out, value);
+
+		if (buffer.size() >= FLUSH_SIZE) {
+			flush();
+		}
+
+		return count++;
+	}
+
+	public int count() {
+		return count;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			long footer = start + written + buffer.size();
+
+			for (int i = 0; i < count; i++) {
+				out.writeI64(offsets[i]);
+				flushIfFull();
+			}
+
+			if (keys != null) {
+				int[] indices = new int[count];
+				Arrays.setAll(indices, i -> i);
+				sort(keys, indices, count);
+
+				for (int i = 0; i < count; i++) {
+					out.writeI64(keys[i]);
+					flushIfFull();
+				}
+
+				for (int i = 0; i < count; i++) {
+					out.writeI32(indices[i]);
+					flushIfFull();
+				}
+			}
+
+			out.writeI64(footer);
+			out.writeI32(count);
+			out.writeBool(keys != null);
+			out.writeI32(MAGIC);
+			flush();
+			// Anything after the trailer is left over from an older file and would be read as its footer
+			channel.truncate(start + written);
+		} finally {
+			channel.close();
+		}
+	}
+
+	// Stable LSD radix sort by key, 8 bits per pass, so records with the same key stay in the order they were appended
+	private static void sort(long[] keys, int[] indices, int count) {
+		long[] sourceKeys = keys;
+		int[] sourceIndices = indices;
+		long[] targetKeys = new long[count];
+		int[] targetIndices = new int[count];
+		int[] offsets = new int[257];
+
+		for (int shift = 0; shift < 64; shift += 8) {
+			Arrays.fill(offsets, 0);
+
+			for (int i = 0; i < count; i++) {
+				offsets[digit(sourceKeys[i], shift) + 1]++;
+			}
+
+			// Every key has the same digit, the pass wouldn't move anything
+			if (offsets[digit(sourceKeys[0], shift) + 1] == count) {
+				continue;
+			}
+
+			for (int i = 1; i < offsets.length; i++) {
+				offsets[i] += offsets[i - 1];
+			}
+
+			for (int i = 0; i < count; i++) {
+				int target = offsets[digit(sourceKeys[i], shift)]++;
+				targetKeys[target] = sourceKeys[i];
+				targetIndices[target] = sourceIndices[i];
+			}
+
+			long[] swapKeys = sourceKeys;
+			sourceKeys = targetKeys;
+			targetKeys = swapKeys;
+			int[] swapIndices = sourceIndices;
+			sourceIndices = targetIndices;
+			targetIndices = swapIndices;
+		}
+
+		if (sourceKeys != keys) {
+			System.arraycopy(sourceKeys, 0, keys, 0, count);
+			System.arraycopy(sourceIndices, 0, indices, 0, count);
+		}
+	}
+
+	// Flipping the sign bit orders signed keys like unsigned digits
+	private static int digit(long key, int shift) {
+		return (int) ((key ^ Long.MIN_VALUE) >>> shift) & 0xFF;
+	}
+
+	private void flushIfFull() throws IOException {
+		if (buffer.size() >= FLUSH_SIZE) {
+			flush();
+		}
+	}
+
+	private void flush() throws IOException {
+		ByteBuffer bytes = ByteBuffer.wrap(buffer.array(), 0, buffer.size());
+
+		while (bytes.hasRemaining()) {
+			channel.write(bytes, start + written + bytes.position());
+		}
+
+		written += buffer.size();
+		buffer.reset();
+	}
+
+}
@@ -0,0 +1,188 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.UUID;
+
+// Flyweight over records of a fixed size stored back to back, e.g. in a mapped file. Fields are read and written in
+// place at offsets computed once from the record codec, nothing is decoded or allocated by the primitive accessors.
+// The typed accessors only check that the field has the width of the type, not that its codec is the matching one.
+public final class RecordView {
+
+	private final List<Decoder<?>> fields;
+	private final int[] offsets;
+	private final int[] sizes;
+	private final int size;
+
+	private ByteBuffer buffer = ByteBuffer.allocate(0);
+	private int base;
+	private OutputBuffer scratch;
+
+	public RecordView(RecordCodec<?> codec) {
+		this.fields = codec.fields();
+		this.offsets = new int[fields.size()];
+		this.sizes = new int[fields.size()];
+
+		int offset = 0;
+
+		for (int i = 0; i < sizes.length; i++) {
+			int fixedSize = fields.get(i) instanceof Encoder<?> encoder ? encoder.fixedSize() : Encoder.VARIABLE_SIZE;
+
+			if (fixedSize == Encoder.VARIABLE_SIZE) {
+				throw new IllegalArgumentException("field " + i + " doesn't have a fixed size");
+			}
+
+			offsets[i] = offset;
+			sizes[i] = fixedSize;
+			offset += fixedSize;
+		}
+
+		if (offset == 0) {
+			throw new IllegalArgumentException("records without fields of a non zero size can't be viewed");
+		}
+
+		this.size = offset;
+	}
+
+	// Views buffer from its position to its limit, the buffer's own position and byte order are left alone
+	public RecordView wrap(ByteBuffer buffer) {
+		this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+		this.base = 0;
+		return this;
+	}
+
+	public RecordView wrap(byte[] array) {
+		return wrap(ByteBuffer.wrap(array));
+	}
+
+	// Moves to the record at index, counted in records from the start of the wrapped region
+	public RecordView at(int index) {
+		return atOffset(Math.multiplyExact(index, size));
+	}
+
+	public RecordView atOffset(int offset) {
+		if (offset < 0 || offset > buffer.limit() - size) {
+			throw new IndexOutOfBoundsException("record at " + offset + " is out of bounds for " + buffer.limit() + " bytes");
+		}
+
+		this.base = offset;
+		return this;
+	}
+
+	// Number of whole records in the wrapped region
+	public int count() {
+		return buffer.limit() / size;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int offset(int field) {
+		return offsets[field];
+	}
+
+	public boolean getBool(int field) {
+		return buffer.get(index(field, 1)) != 0;
+	}
+
+	public byte getI8(int field) {
+		return buffer.get(index(field, 1));
+	}
+
+	public short getI16(int field) {
+		return buffer.getShort(index(field, 2));
+	}
+
+	public int getI32(int field) {
+		return buffer.getInt(index(field, 4));
+	}
+
+	public long getI64(int field) {
+		return buffer.getLong(index(field, 8));
+	}
+
+	public float getF32(int field) {
+		return buffer.getFloat(index(field, 4));
+	}
+
+	public double getF64(int field) {
+		return buffer.getDouble(index(field, 8));
+	}
+
+	public UUID getUUID(int field) {
+		int index = index(field, 16);
+		return new UUID(buffer.getLong(index), buffer.getLong(index + 8));
+	}
+
+	public void setBool(int field, boolean value) {
+		buffer.put(index(field, 1), (byte) (value ? 1 : 0));
+	}
+
+	public void setI8(int field, int value) {
+		buffer.put(index(field, 1), (byte) value);
+	}
+
+	public void setI16(int field, int value) {
+		buffer.putShort(index(field, 2), (short) value);
+	}
+
+	public void setI32(int field, int value) {
+		buffer.putInt(index(field, 4), value);
+	}
+
+	public void setI64(int field, long value) {
+		buffer.putLong(index(field, 8), value);
+	}
+
+	public void setF32(int field, float value) {
+		buffer.putFloat(index(field, 4), value);
+	}
+
+	public void setF64(int field, double value) {
+		buffer.putDouble(index(field, 8), value);
+	}
+
+	public void setUUID(int field, UUID value) {
+		int index = index(field, 16);
+		buffer.putLong(index, value.getMostSignificantBits());
+		buffer.putLong(index + 8, value.getLeastSignificantBits());
+	}
+
+	// The bytes of the field, e.g. the elements of a fixed array, sharing content with the wrapped region
+	public ByteBuffer slice(int field) {
+		return buffer.slice(base + offsets[field], sizes[field]);
+	}
+
+	// Decodes any field with its own decoder
+	public Object get(int field) throws IOException {
+		return fields.get(field).decode(new DataInputWrapper(slice(field)));
+	}
+
+	// Encodes any field whose decoder is a Codec of the field, field codecs can't encode a value on its own
+	@SuppressWarnings("unchecked")
+	public void set(int field, Object value) throws IOException {
+		if (!(fields.get(field) instanceof Codec<?> codec)) {
+			throw new IllegalArgumentException("field " + field + " can't be encoded on its own");
+		}
+
+		if (scratch == null) {
+			scratch = new OutputBuffer(size);
+		}
+
+		scratch.reset();
+		((Codec<Object>) codec).encode(new DataOutputWrapper(scratch), value);
+		buffer.put(base + offsets[field], scratch.array(), 0, sizes[field]);
+	}
+
+	private int index(int field, int width) {
+		if (sizes[field] != width) {
+			throw new IllegalArgumentException("field " + field + " is " + sizes[field] + " bytes, not " + width);
+		}
+
+		return base + offsets[field];
+	}
+
+}
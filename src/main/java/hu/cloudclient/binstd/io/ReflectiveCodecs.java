@@ -0,0 +1,187 @@
+package hu.cloudclient.binstd.io;
+
+import hu.cloudclient.binstd.IntIdentifiable;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Derives codecs from record components, see Codec.forRecord. Every record codec is built once per class. Boxed
+// components may be null and cost a presence byte, other reference types only if the component carries a Nullable
+// annotation kept at runtime, e.g. javax.annotation.Nullable (org.jetbrains.annotations.Nullable is dropped by the
+// compiler). short[], float[], double[], boolean[] and char[] have no codec.
+final class ReflectiveCodecs {
+
+	private static final Codec<Character> CHAR = new Codec<>() {
+
+		@Override
+		public void encode(DataOutputWrapper out, Character value) throws IOException {
+			out.writeI16(value);
+		}
+
+		@Override
+		public Character decode(DataInputWrapper in) throws IOException {
+			return (char) in.readU16();
+		}
+
+		@Override
+		public int fixedSize() {
+			return 2;
+		}
+
+	};
+
+	private static final Map<Class<?>, Codec<?>> CODECS = Map.ofEntries(
+		Map.entry(boolean.class, Codecs.BOOL),
+		Map.entry(byte.class, Codecs.I8),
+		Map.entry(short.class, Codecs.I16),
+		Map.entry(char.class, CHAR),
+		Map.entry(int.class, Codecs.I32),
+		Map.entry(long.class, Codecs.I64),
+		Map.entry(float.class, Codecs.F32),
+		Map.entry(double.class, Codecs.F64),
+		Map.entry(String.class, Codecs.UTF8),
+		Map.entry(UUID.class, Codecs.UUID),
+		Map.entry(byte[].class, Codecs.DYN_I8_ARRAY),
+		Map.entry(int[].class, Codecs.DYN_I32_ARRAY),
+		Map.entry(long[].class, Codecs.DYN_I64_ARRAY)
+	);
+
+	private static final Map<Class<?>, Codec<?>> BOXED = Map.ofEntries(
+		Map.entry(Boolean.class, Codecs.BOOL.nullable()),
+		Map.entry(Byte.class, Codecs.I8.nullable()),
+		Map.entry(Short.class, Codecs.I16.nullable()),
+		Map.entry(Character.class, CHAR.nullable()),
+		Map.entry(Integer.class, Codecs.I32.nullable()),
+		Map.entry(Long.class, Codecs.I64.nullable()),
+		Map.entry(Float.class, Codecs.F32.nullable()),
+		Map.entry(Double.class, Codecs.F64.nullable())
+	);
+
+	private static final ClassValue<RecordCodec<?>> RECORDS = new ClassValue<>() {
+
+		@Override
+		protected RecordCodec<?> computeValue(Class<?> type) {
+			return createRecord(type.asSubclass(Record.class));
+		}
+
+	};
+
+	// Records whose codec is being created on this thread, a component referring back to one of them is resolved lazily
+	private static final ThreadLocal<Set<Class<?>>> CREATING = ThreadLocal.withInitial(HashSet::new);
+
+	private ReflectiveCodecs() {}
+
+	@SuppressWarnings("unchecked")
+	static <R extends Record> RecordCodec<R> forRecord(Class<R> type) {
+		if (!type.isRecord()) {
+			throw new IllegalArgumentException(type + " is not a record");
+		}
+
+		return (RecordCodec<R>) RECORDS.get(type);
+	}
+
+	private static <R extends Record> RecordCodec<R> createRecord(Class<R> type) {
+		Set<Class<?>> creating = CREATING.get();
+		creating.add(type);
+
+		try {
+			RecordComponent[] components = type.getRecordComponents();
+			Codec<?>[] codecs = new Codec<?>[components.length];
+
+			for (int i = 0; i < components.length; i++) {
+				codecs[i] = codecFor(components[i]);
+			}
+
+			return new MethodHandleRecordCodec<>(MethodHandles.privateLookupIn(type, MethodHandles.lookup()), type, codecs);
+		} catch (IllegalAccessException e) {
+			throw new IllegalArgumentException(type + " is not accessible, open its package to hu.cloudclient.binstd", e);
+		} finally {
+			creating.remove(type);
+		}
+	}
+
+	private static Codec<?> codecFor(RecordComponent component) {
+		Class<?> type = component.getType();
+		Codec<?> codec = codecFor(type);
+		return !type.isPrimitive() && !BOXED.containsKey(type) && isNullable(component) ? codec.nullable() : codec;
+	}
+
+	private static boolean isNullable(RecordComponent component) {
+		for (Annotation[] annotations : List.of(component.getAnnotations(), component.getAnnotatedType().getAnnotations())) {
+			for (Annotation annotation : annotations) {
+				if (annotation.annotationType().getSimpleName().equals("Nullable")) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Codec<?> codecFor(Class<?> type) {
+		Codec<?> codec = CODECS.get(type);
+
+		if (codec == null) {
+			codec = BOXED.get(type);
+		}
+
+		if (codec != null) {
+			return codec;
+		}
+
+		if (type.isEnum() && IntIdentifiable.class.isAssignableFrom(type)) {
+			return Codecs.createIntIdentifiable((IntIdentifiable[]) type.getEnumConstants());
+		}
+
+		if (type.isEnum()) {
+			return Codecs.createEnum((Class) type);
+		}
+
+		if (type.isRecord()) {
+			return CREATING.get().contains(type) ? lazy(type.asSubclass(Record.class)) : RECORDS.get(type);
+		}
+
+		if (type.isArray() && !type.getComponentType().isPrimitive()) {
+			Class<?> componentType = type.getComponentType();
+			return ((Codec) codecFor(componentType)).dynArray(length -> (Object[]) Array.newInstance(componentType, length));
+		}
+
+		throw new IllegalArgumentException("no codec for component type " + type.getTypeName());
+	}
+
+	private static <R extends Record> Codec<R> lazy(Class<R> type) {
+		return new Codec<>() {
+
+			@Override
+			public R decode(DataInputWrapper in) throws IOException {
+				return forRecord(type).decode(in);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				forRecord(type).skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, R value) throws IOException {
+				forRecord(type).encode(out, value);
+			}
+
+			@Override
+			public int encodedSize(R value) throws IOException {
+				return forRecord(type).encodedSize(value);
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,121 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+// Stream VByte layout for int arrays: a control byte for every group of 4 values holding 2 bit byte lengths - 1,
+// least significant first, then the data bytes of all values contiguously, every value little endian in 1 to 4 bytes.
+final class StreamVByte {
+
+	// Room for the 4 byte window write of the last value
+	static final int PADDING = 3;
+
+	private static final VarHandle I32 = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final int[] MASKS = {0xFF, 0xFFFF, 0xFFFFFF, 0xFFFFFFFF};
+	// Total data length of the 4 values of every control byte
+	private static final byte[] DATA_LENGTHS = new byte[256];
+
+	static {
+		for (int control = 0; control < 256; control++) {
+			DATA_LENGTHS[control] = (byte) (4 + (control & 3) + (control >>> 2 & 3) + (control >>> 4 & 3) + (control >>> 6));
+		}
+	}
+
+	private StreamVByte() {}
+
+	static int controlSize(int count) {
+		return (count + 3) >>> 2;
+	}
+
+	static int byteLength(int i) {
+		return (39 - Integer.numberOfLeadingZeros(i | 1)) >>> 3;
+	}
+
+	// Data length of the values of the control bytes at offset
+	static int dataSize(byte[] in, int offset, int count) throws IOException {
+		int last = offset + controlSize(count) - 1;
+		int size = 0;
+
+		for (int i = offset; i < last; i++) {
+			size += DATA_LENGTHS[in[i] & 0xFF];
+		}
+
+		return count == 0 ? 0 : size + dataSize(in[last], count - (last - offset) * 4);
+	}
+
+	// Data length of the first count values of a control byte, the slots after them have to be zero
+	static int dataSize(int control, int count) throws IOException {
+		control &= 0xFF;
+
+		if (count < 4 && control >>> (count << 1) != 0) {
+			throw new IOException("control byte " + Integer.toBinaryString(control) + " has lengths for " + (4 - count) + " unused slots");
+		}
+
+		return DATA_LENGTHS[control] - (4 - count);
+	}
+
+	static int dataSize(int[] array) {
+		int size = 0;
+
+		for (int i : array) {
+			size += byteLength(i);
+		}
+
+		return size;
+	}
+
+	static int sizeOf(int[] array) {
+		return controlSize(array.length) + dataSize(array);
+	}
+
+	// Writes the control bytes at offset and the data after them, returns the end of the data. The array needs PADDING
+	// bytes of room after that.
+	static int encode(int[] array, byte[] out, int offset) {
+		int p = offset + controlSize(array.length);
+
+		for (int i = 0; i < array.length; i += 4) {
+			int end = Math.min(i + 4, array.length);
+			int control = 0;
+
+			for (int j = i; j < end; j++) {
+				int value = array[j];
+				int length = byteLength(value);
+				control |= (length - 1) << ((j & 3) << 1);
+				I32.set(out, p, value);
+				p += length;
+			}
+
+			out[offset + (i >>> 2)] = (byte) control;
+		}
+
+		return p;
+	}
+
+	// Reads the control bytes at offset and the data after them. Values whose 4 byte window would run past the end of
+	// the array are put together byte by byte.
+	static void decode(byte[] in, int offset, int[] array) {
+		int p = offset + controlSize(array.length);
+		int windowEnd = in.length - 4;
+
+		for (int i = 0; i < array.length; i++) {
+			int length = in[offset + (i >>> 2)] >>> ((i & 3) << 1) & 3;
+
+			if (p <= windowEnd) {
+				array[i] = (int) I32.get(in, p) & MASKS[length];
+			} else {
+				int value = 0;
+
+				for (int j = length; j >= 0; j--) {
+					value = value << 8 | in[p + j] & 0xFF;
+				}
+
+				array[i] = value;
+			}
+
+			p += length + 1;
+		}
+	}
+
+}
@@ -0,0 +1,117 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Stateful string codec for one connection, both peers use their own instance. A string is sent as UTF8 once and gets
+// the next of capacity ids, later occurrences are sent as that id. Once the table is full the oldest string's id is
+// reused, the receiver mirrors this by replaying the same assignments, so no eviction has to be sent.
+//
+// Every value starts with a VAR32 tag: LITERAL followed by UTF8, RESET followed by another tag, or FIRST_ID + id.
+// Not thread safe, values have to be decoded in the order they were encoded.
+public final class StringDictionary implements Codec<String> {
+
+	private static final int LITERAL = 0;
+	private static final int RESET = 1;
+	private static final int FIRST_ID = 2;
+
+	private final Map<String, Integer> sentIds = new HashMap<>();
+	private final String[] sent;
+	private int nextSentId;
+	private boolean resetPending;
+
+	private final String[] received;
+	private int nextReceivedId;
+
+	public StringDictionary(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity " + capacity + " is not positive");
+		}
+
+		this.sent = new String[capacity];
+		this.received = new String[capacity];
+	}
+
+	public int capacity() {
+		return sent.length;
+	}
+
+	// Forgets every sent string, the next encoded value tells the receiver to do the same
+	public void reset() {
+		sentIds.clear();
+		Arrays.fill(sent, null);
+		nextSentId = 0;
+		resetPending = true;
+	}
+
+	@Override
+	public void encode(DataOutputWrapper out, String value) throws IOException {
+		if (resetPending) {
+			out.writeVar32(RESET);
+			resetPending = false;
+		}
+
+		Integer id = sentIds.get(value);
+
+		if (id != null) {
+			out.writeVar32(FIRST_ID + id);
+			return;
+		}
+
+		out.writeVar32(LITERAL);
+		out.writeUTF8(value);
+
+		String evicted = sent[nextSentId];
+
+		if (evicted != null) {
+			sentIds.remove(evicted);
+		}
+
+		sent[nextSentId] = value;
+		sentIds.put(value, nextSentId);
+		nextSentId = (nextSentId + 1) % sent.length;
+	}
+
+	@Override
+	public String decode(DataInputWrapper in) throws IOException {
+		int tag = in.readVar32();
+
+		if (tag == RESET) {
+			Arrays.fill(received, null);
+			nextReceivedId = 0;
+			tag = in.readVar32();
+		}
+
+		if (tag == LITERAL) {
+			String value = in.readUTF8();
+			received[nextReceivedId] = value;
+			nextReceivedId = (nextReceivedId + 1) % received.length;
+			return value;
+		}
+
+		int id = tag - FIRST_ID;
+
+		if (id < 0 || id >= received.length || received[id] == null) {
+			throw new IOException("unknown string dictionary id " + id);
+		}
+
+		return received[id];
+	}
+
+	// Size if value was encoded next
+	@Override
+	public int encodedSize(String value) {
+		int size = resetPending ? 1 : 0;
+		Integer id = sentIds.get(value);
+
+		if (id != null) {
+			return size + VarNum.sizeOf(FIRST_ID + id);
+		}
+
+		int length = Utf8.encodedLength(value);
+		return size + 1 + VarNum.sizeOf(length) + length;
+	}
+
+}
@@ -0,0 +1,70 @@
+package hu.cloudclient.binstd.io;
+
+public final class Utf8 {
+
+	private Utf8() {
+	}
+
+	// Same length as value.getBytes(UTF_8), unpaired surrogates count as the single '?' they are replaced with
+	public static int encodedLength(String value) {
+		int length = value.length();
+		int size = length;
+
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+
+			if (c < 0x80) {
+				continue;
+			}
+
+			if (c < 0x800) {
+				size += 1;
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				size += 2;
+				i++;
+			} else if (!Character.isSurrogate(c)) {
+				size += 2;
+			}
+		}
+
+		return size;
+	}
+
+	// Writes the same bytes as value.getBytes(UTF_8) to dst starting at offset, returns the index after the last one
+	static int encode(String value, byte[] dst, int offset) {
+		int length = value.length();
+		int p = offset;
+		int i = 0;
+
+		// ASCII prefix, a plain copy loop
+		for (char c; i < length && (c = value.charAt(i)) < 0x80; i++) {
+			dst[p++] = (byte) c;
+		}
+
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+
+			if (c < 0x80) {
+				dst[p++] = (byte) c;
+			} else if (c < 0x800) {
+				dst[p++] = (byte) (0xC0 | c >> 6);
+				dst[p++] = (byte) (0x80 | c & 0x3F);
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				dst[p++] = (byte) (0xF0 | codePoint >> 18);
+				dst[p++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+				dst[p++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+				dst[p++] = (byte) (0x80 | codePoint & 0x3F);
+			} else if (Character.isSurrogate(c)) {
+				dst[p++] = '?';
+			} else {
+				dst[p++] = (byte) (0xE0 | c >> 12);
+				dst[p++] = (byte) (0x80 | c >> 6 & 0x3F);
+				dst[p++] = (byte) (0x80 | c & 0x3F);
+			}
+		}
+
+		return p;
+	}
+
+}
@@ -0,0 +1,123 @@
+package hu.cloudclient.binstd.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+// Deduplicates decoded strings by their encoded bytes, see Codecs.cachedUTF8. The table is set associative: every
+// encoding maps to a set of ways slots picked by its hash, kept in eviction order with the next victim last. Entries
+// are immutable and sets are updated without locking, so threads racing on a set at worst decode the same string twice
+// or lose an entry.
+public final class Utf8Cache {
+
+	public enum Eviction {
+		// A miss replaces the entry that was added to the set first, hits don't reorder the set
+		FIFO,
+		// A miss replaces the entry that was used last the longest ago, a hit moves its entry to the front of the set
+		LRU
+	}
+
+	private static final int MAX_WAYS = 16;
+
+	private final Entry[] entries;
+	private final int mask;
+	private final int ways;
+	private final Eviction eviction;
+	private final int maxSize;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	// capacity is rounded up to a whole power of two number of sets, strings longer than maxSize bytes are decoded
+	// without caching. 1 way makes the table direct mapped, where eviction makes no difference.
+	public Utf8Cache(int capacity, int maxSize, int ways, Eviction eviction) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("capacity " + capacity + " is out of bounds");
+		}
+
+		if (ways <= 0 || ways > MAX_WAYS) {
+			throw new IllegalArgumentException("ways " + ways + " not in 1.." + MAX_WAYS);
+		}
+
+		int sets = (capacity + ways - 1) / ways;
+		sets = Math.max(1, Integer.highestOneBit(sets - 1) << 1);
+		this.entries = new Entry[sets * ways];
+		this.mask = sets - 1;
+		this.ways = ways;
+		this.eviction = eviction;
+		this.maxSize = maxSize;
+	}
+
+	// Direct mapped
+	public Utf8Cache(int capacity, int maxSize) {
+		this(capacity, maxSize, 1, Eviction.FIFO);
+	}
+
+	public Utf8Cache(int capacity) {
+		this(capacity, 64);
+	}
+
+	String get(byte[] bytes, int offset, int size) {
+		if (size > maxSize) {
+			return new String(bytes, offset, size, StandardCharsets.UTF_8);
+		}
+
+		int hash = hash(bytes, offset, size);
+		int set = (hash & mask) * ways;
+
+		for (int i = 0; i < ways; i++) {
+			Entry entry = entries[set + i];
+
+			if (entry != null && entry.hash == hash && Arrays.equals(entry.bytes, 0, entry.bytes.length, bytes, offset, offset + size)) {
+				hits.increment();
+
+				if (eviction == Eviction.LRU && i > 0) {
+					moveToFront(set, i, entry);
+				}
+
+				return entry.value;
+			}
+		}
+
+		misses.increment();
+		String value = new String(bytes, offset, size, StandardCharsets.UTF_8);
+		moveToFront(set, ways - 1, new Entry(Arrays.copyOfRange(bytes, offset, offset + size), hash, value));
+		return value;
+	}
+
+	// Shifts the first index entries of the set back by one, dropping the one at index, and puts entry first
+	private void moveToFront(int set, int index, Entry entry) {
+		System.arraycopy(entries, set, entries, set + 1, index);
+		entries[set] = entry;
+	}
+
+	private static int hash(byte[] bytes, int offset, int size) {
+		int hash = size;
+
+		for (int i = offset, end = offset + size; i < end; i++) {
+			hash = 31 * hash + bytes[i];
+		}
+
+		// Spread the high bits into the index
+		return hash ^ hash >>> 16;
+	}
+
+	public void clear() {
+		Arrays.fill(entries, null);
+	}
+
+	public Stats stats() {
+		return new Stats(hits.sum(), misses.sum());
+	}
+
+	public record Stats(long hits, long misses) {
+
+		public double hitRate() {
+			long lookups = hits + misses;
+			return lookups == 0 ? 0 : (double) hits / lookups;
+		}
+
+	}
+
+	private record Entry(byte[] bytes, int hash, String value) {}
+
+}
@@ -42,4 +42,168 @@ public class VarNum {
 		}
 	}
 
+	public static int sizeOf(int[] array) {
+		int size = 0;
+
+		for (int i : array) {
+			size += sizeOf(i);
+		}
+
+		return size;
+	}
+
+	public static int sizeOf(long[] array) {
+		int size = 0;
+
+		for (long l : array) {
+			size += sizeOf(l);
+		}
+
+		return size;
+	}
+
+	// Maps signed values to unsigned ones so small negatives stay small: 0, -1, 1, -2, ... -> 0, 1, 2, 3, ...
+	public static int zigZag(int i) {
+		return (i << 1) ^ (i >> 31);
+	}
+
+	public static long zigZag(long l) {
+		return (l << 1) ^ (l >> 63);
+	}
+
+	public static int unZigZag(int i) {
+		return (i >>> 1) ^ -(i & 1);
+	}
+
+	public static long unZigZag(long l) {
+		return (l >>> 1) ^ -(l & 1);
+	}
+
+	public static int sizeOfSigned(int i) {
+		return sizeOf(zigZag(i));
+	}
+
+	public static int sizeOfSigned(long l) {
+		return sizeOf(zigZag(l));
+	}
+
+	public static int sizeOfSigned(int[] array) {
+		int size = 0;
+
+		for (int i : array) {
+			size += sizeOfSigned(i);
+		}
+
+		return size;
+	}
+
+	public static int sizeOfSigned(long[] array) {
+		int size = 0;
+
+		for (long l : array) {
+			size += sizeOfSigned(l);
+		}
+
+		return size;
+	}
+
+	// Prefix var-ints store their total length as the number of leading ones in the first byte, followed by a zero,
+	// then the value big endian in the remaining bits: 1 byte for 7 bits, ..., 8 bytes for 56 bits, 0xFF and 8 bytes for 64
+	public static int sizeOfPrefix(int i) {
+		return (38 - Integer.numberOfLeadingZeros(i | 1)) / 7;
+	}
+
+	public static int sizeOfPrefix(long l) {
+		return Math.min((70 - Long.numberOfLeadingZeros(l | 1)) / 7, 9);
+	}
+
+	public static int sizeOfPrefix(int[] array) {
+		int size = 0;
+
+		for (int i : array) {
+			size += sizeOfPrefix(i);
+		}
+
+		return size;
+	}
+
+	public static int sizeOfPrefix(long[] array) {
+		int size = 0;
+
+		for (long l : array) {
+			size += sizeOfPrefix(l);
+		}
+
+		return size;
+	}
+
+	static int prefixLength(int firstByte) {
+		return Integer.numberOfLeadingZeros(~firstByte & 0xFF) - 23;
+	}
+
+	// The value with the length prefix in the top bits of its size * 8 bits, size must be at most 8
+	static long prefixed(long value, int size) {
+		return value | (-1L << 7 * size + 1) & (-1L >>> 64 - 8 * size);
+	}
+
+	// Size of the array as ZigZag var-int deltas from the previous element, the first one from 0
+	public static int sizeOfDeltas(int[] array) {
+		int size = 0;
+		int previous = 0;
+
+		for (int i : array) {
+			size += sizeOfSigned(i - previous);
+			previous = i;
+		}
+
+		return size;
+	}
+
+	public static int sizeOfDeltas(long[] array) {
+		int size = 0;
+		long previous = 0;
+
+		for (long l : array) {
+			size += sizeOfSigned(l - previous);
+			previous = l;
+		}
+
+		return size;
+	}
+
+	// Size of the array as the first element, then ZigZag var-int differences between consecutive deltas
+	public static int sizeOfDoubleDeltas(int[] array) {
+		if (array.length == 0) {
+			return 0;
+		}
+
+		int size = sizeOfSigned(array[0]);
+		int delta = 0;
+
+		for (int i = 1; i < array.length; i++) {
+			int newDelta = array[i] - array[i - 1];
+			size += sizeOfSigned(newDelta - delta);
+			delta = newDelta;
+		}
+
+		return size;
+	}
+
+	public static int sizeOfDoubleDeltas(long[] array) {
+		if (array.length == 0) {
+			return 0;
+		}
+
+		int size = sizeOfSigned(array[0]);
+		long delta = 0;
+
+		for (int i = 1; i < array.length; i++) {
+			long newDelta = array[i] - array[i - 1];
+			size += sizeOfSigned(newDelta - delta);
+			delta = newDelta;
+		}
+
+		return size;
+	}
+
 }
@@ -0,0 +1,205 @@
+package hu.cloudclient.binstd.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+// Record codec that survives schema changes. Every field has a tag that is never reused, a changed field type needs a
+// new tag. Values start with an I32 header: the schema fingerprint followed by the fields positionally, exactly like
+// the record codec writes them, or TAGGED followed by the field count and every field as its tag and a dyn byte array.
+// Positional values can only be read by a codec with the same fingerprint, so writers talking to a reader with another
+// schema use forPeer to get the tagged layout. Tagged values are read by any version: unknown fields are skipped and
+// missing ones are taken from the defaults.
+public final class VersionedCodec<T> implements Codec<T> {
+
+	public static final int TAGGED = 0;
+
+	private final RecordCodec<T> codec;
+	private final List<Decoder<?>> fields;
+	private final int[] tags;
+	// The encoded default value of every field
+	private final byte[][] defaults;
+	private final int fingerprint;
+	private final Codec<T> tagged;
+
+	public VersionedCodec(RecordCodec<T> codec, T defaultValue, int... tags) throws IOException {
+		this.codec = codec;
+		this.fields = codec.fields();
+		this.tags = tags.clone();
+
+		if (tags.length != fields.size()) {
+			throw new IllegalArgumentException(fields.size() + " fields, but " + tags.length + " tags were given");
+		}
+
+		int fingerprint = 0x811C9DC5;
+
+		for (int i = 0; i < tags.length; i++) {
+			if (tags[i] < 0) {
+				throw new IllegalArgumentException("tag " + tags[i] + " is negative");
+			}
+
+			for (int j = 0; j < i; j++) {
+				if (tags[i] == tags[j]) {
+					throw new IllegalArgumentException("tag " + tags[i] + " is used by more than one field");
+				}
+			}
+
+			int fixedSize = fields.get(i) instanceof Encoder<?> encoder ? encoder.fixedSize() : Encoder.VARIABLE_SIZE;
+			fingerprint = (fingerprint ^ tags[i]) * 0x01000193;
+			fingerprint = (fingerprint ^ fixedSize) * 0x01000193;
+		}
+
+		this.fingerprint = fingerprint == TAGGED ? 1 : fingerprint;
+		this.defaults = split(defaultValue);
+		this.tagged = new Codec<>() {
+
+			@Override
+			public T decode(DataInputWrapper in) throws IOException {
+				return VersionedCodec.this.decode(in);
+			}
+
+			@Override
+			public void skip(DataInputWrapper in) throws IOException {
+				VersionedCodec.this.skip(in);
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, T value) throws IOException {
+				byte[][] parts = split(value);
+				out.writeI32(TAGGED);
+				out.writeVar32(parts.length);
+
+				for (int i = 0; i < parts.length; i++) {
+					out.writeVar32(tags[i]);
+					out.writeDynI8Array(parts[i]);
+				}
+			}
+
+		};
+	}
+
+	public int fingerprint() {
+		return fingerprint;
+	}
+
+	// The positional layout if the peer has the same schema, the tagged one otherwise
+	public Codec<T> forPeer(int peerFingerprint) {
+		return peerFingerprint == fingerprint ? this : tagged;
+	}
+
+	public Codec<T> tagged() {
+		return tagged;
+	}
+
+	@Override
+	public T decode(DataInputWrapper in) throws IOException {
+		int header = in.readI32();
+
+		if (header == fingerprint) {
+			return codec.decode(in);
+		}
+
+		checkTagged(header);
+
+		// The known fields are put back in positional order and decoded by the record codec
+		byte[][] parts = new byte[tags.length][];
+
+		for (int count = readCount(in); count > 0; count--) {
+			int index = indexOf(in.readVar32());
+
+			if (index == -1) {
+				in.skipDynPrimitiveArray(1);
+			} else {
+				parts[index] = in.readDynI8Array();
+			}
+		}
+
+		OutputBuffer buffer = new OutputBuffer();
+
+		for (int i = 0; i < parts.length; i++) {
+			byte[] part = parts[i] != null ? parts[i] : defaults[i];
+			buffer.write(part, 0, part.length);
+		}
+
+		return codec.decode(new DataInputWrapper(buffer.toByteArray()));
+	}
+
+	@Override
+	public void skip(DataInputWrapper in) throws IOException {
+		int header = in.readI32();
+
+		if (header == fingerprint) {
+			codec.skip(in);
+			return;
+		}
+
+		checkTagged(header);
+
+		for (int count = readCount(in); count > 0; count--) {
+			in.readVar32();
+			in.skipDynPrimitiveArray(1);
+		}
+	}
+
+	@Override
+	public void encode(DataOutputWrapper out, T value) throws IOException {
+		out.writeI32(fingerprint);
+		codec.encode(out, value);
+	}
+
+	@Override
+	public int fixedSize() {
+		int fixedSize = codec.fixedSize();
+		return fixedSize == VARIABLE_SIZE ? VARIABLE_SIZE : 4 + fixedSize;
+	}
+
+	@Override
+	public int encodedSize(T value) throws IOException {
+		return 4 + codec.encodedSize(value);
+	}
+
+	private void checkTagged(int header) throws IOException {
+		if (header != TAGGED) {
+			throw new IOException("schema fingerprint " + header + " doesn't match " + fingerprint + " and the value isn't tagged");
+		}
+	}
+
+	private static int readCount(DataInputWrapper in) throws IOException {
+		int count = in.readVar32();
+
+		if (count < 0) {
+			throw new IOException("negative field count " + count);
+		}
+
+		return count;
+	}
+
+	private int indexOf(int tag) {
+		for (int i = 0; i < tags.length; i++) {
+			if (tags[i] == tag) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	// The positional encoding of value cut into fields
+	private byte[][] split(T value) throws IOException {
+		OutputBuffer buffer = new OutputBuffer();
+		codec.encode(new DataOutputWrapper(buffer), value);
+
+		byte[] bytes = buffer.toByteArray();
+		DataInputWrapper in = new DataInputWrapper(bytes);
+		byte[][] parts = new byte[fields.size()][];
+
+		for (int i = 0; i < parts.length; i++) {
+			int start = (int) in.bytesRead();
+			fields.get(i).skip(in);
+			parts[i] = Arrays.copyOfRange(bytes, start, (int) in.bytesRead());
+		}
+
+		return parts;
+	}
+
+}
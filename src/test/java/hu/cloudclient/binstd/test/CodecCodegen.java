@@ -11,31 +11,76 @@ public class CodecCodegen {
 		for (int i = 0; i < n; i++) {
 			System.out.println(getMethodDef(i + 1) + "\n");
 		}
+
+		for (int i = 0; i < n; i++) {
+			System.out.println(getFieldMethodDef(i + 1) + "\n");
+		}
 	}
 
 	public static String getImports(int n) {
-		return "import java.util.function.Function;\nimport java.util.function.BiFunction;\n" + getRepeated(3, n, "\n", "import hu.cloudclient.binstd.function.Function%d;");
+		return "import java.util.List;\nimport java.util.function.Function;\nimport java.util.function.BiFunction;\n" + getRepeated(3, n, "\n", "import hu.cloudclient.binstd.function.Function%d;");
 	}
 
 	public static String getMethodDef(int n) {
 		return "// This is an automatically generated method, you should probably not modify this\nstatic <T, " + getRepeated(1, n, ", ", "F%d") +
-			"> Codec<T> rec("+
-			switch (n) {
-				case 1 -> "Function";
-				case 2 -> "BiFunction";
-				default -> "Function" + n;
-			} +
+			"> RecordCodec<T> rec(" +
+			getFactoryType(n) +
 			"<" +
 			getRepeated(1, n, ", ", "F%d") +
 			", T> factory, " +
 			getRepeated(1, n, ", ", "Codec<F%1$d> c%1$d, Function<T, F%1$d> g%1$d") +
-			") {\n\treturn new Codec<>() {\n\n\t\t@Override\n\t\tpublic T decode(DataInputWrapper in) throws IOException {\n\t\t\t" +
+			") {\n\treturn new RecordCodec<>() {\n\n\t\tprivate final int fixedSize = Encoder.fixedSizeOf(" +
+			getRepeated(1, n, ", ", "c%1$d") +
+			");\n\t\tprivate final List<Decoder<?>> fields = List.of(" +
+			getRepeated(1, n, ", ", "c%1$d") +
+			");\n\n\t\t@Override\n\t\tpublic T decode(DataInputWrapper in) throws IOException {\n\t\t\t" +
 			getRepeated(1, n, "\n\t\t\t", "F%1$d v%1$d = c%1$d.decode(in);") +
 			"\n\t\t\treturn factory.apply(" +
 			getRepeated(1, n, ", ", "v%1$d") +
-			");\n\t\t}\n\n\t\t@Override\n\t\tpublic void encode(DataOutputWrapper out, T value) throws IOException {\n\t\t\t" +
+			");\n\t\t}\n\n\t\t@Override\n\t\tpublic void skip(DataInputWrapper in) throws IOException {\n\t\t\t" +
+			"if (fixedSize != VARIABLE_SIZE) {\n\t\t\t\tin.skipFully(fixedSize);\n\t\t\t\treturn;\n\t\t\t}\n\n\t\t\t" +
+			getRepeated(1, n, "\n\t\t\t", "c%1$d.skip(in);") +
+			"\n\t\t}\n\n\t\t@Override\n\t\tpublic void encode(DataOutputWrapper out, T value) throws IOException {\n\t\t\t" +
 			getRepeated(1, n, "\n\t\t\t", "c%1$d.encode(out, g%1$d.apply(value));") +
-			"\n\t\t}\n\t};\n}";
+			"\n\t\t}\n\n\t\t@Override\n\t\tpublic int fixedSize() {\n\t\t\treturn fixedSize;\n\t\t}\n\n\t\t@Override\n\t\tpublic List<Decoder<?>> fields() {\n\t\t\treturn fields;\n\t\t}\n\n\t\t@Override\n\t\tpublic int encodedSize(T value) throws IOException {\n\t\t\t" +
+			"if (fixedSize != VARIABLE_SIZE) {\n\t\t\t\treturn fixedSize;\n\t\t\t}\n\n\t\t\tint size = 0;\n\t\t\t" +
+			getRepeated(1, n, "\n\t\t\t", "size += c%1$d.encodedSize(g%1$d.apply(value));") +
+			"\n\t\t\treturn size;\n\t\t}\n\t};\n}";
+	}
+
+	public static String getFieldMethodDef(int n) {
+		return "// This is an automatically generated method, you should probably not modify this\nstatic <T, " + getRepeated(1, n, ", ", "F%d") +
+			"> RecordCodec<T> rec(" +
+			getFactoryType(n) +
+			"<" +
+			getRepeated(1, n, ", ", "F%d") +
+			", T> factory, " +
+			getRepeated(1, n, ", ", "FieldCodec<T, F%1$d> f%1$d") +
+			") {\n\treturn new RecordCodec<>() {\n\n\t\tprivate final int fixedSize = Encoder.fixedSizeOf(" +
+			getRepeated(1, n, ", ", "f%1$d") +
+			");\n\t\tprivate final List<Decoder<?>> fields = List.of(" +
+			getRepeated(1, n, ", ", "f%1$d") +
+			");\n\n\t\t@Override\n\t\tpublic T decode(DataInputWrapper in) throws IOException {\n\t\t\t" +
+			getRepeated(1, n, "\n\t\t\t", "F%1$d v%1$d = f%1$d.decode(in);") +
+			"\n\t\t\treturn factory.apply(" +
+			getRepeated(1, n, ", ", "v%1$d") +
+			");\n\t\t}\n\n\t\t@Override\n\t\tpublic void skip(DataInputWrapper in) throws IOException {\n\t\t\t" +
+			"if (fixedSize != VARIABLE_SIZE) {\n\t\t\t\tin.skipFully(fixedSize);\n\t\t\t\treturn;\n\t\t\t}\n\n\t\t\t" +
+			getRepeated(1, n, "\n\t\t\t", "f%1$d.skip(in);") +
+			"\n\t\t}\n\n\t\t@Override\n\t\tpublic void encode(DataOutputWrapper out, T value) throws IOException {\n\t\t\t" +
+			getRepeated(1, n, "\n\t\t\t", "f%1$d.encode(out, value);") +
+			"\n\t\t}\n\n\t\t@Override\n\t\tpublic int fixedSize() {\n\t\t\treturn fixedSize;\n\t\t}\n\n\t\t@Override\n\t\tpublic List<Decoder<?>> fields() {\n\t\t\treturn fields;\n\t\t}\n\n\t\t@Override\n\t\tpublic int encodedSize(T value) throws IOException {\n\t\t\t" +
+			"if (fixedSize != VARIABLE_SIZE) {\n\t\t\t\treturn fixedSize;\n\t\t\t}\n\n\t\t\tint size = 0;\n\t\t\t" +
+			getRepeated(1, n, "\n\t\t\t", "size += f%1$d.encodedSize(value);") +
+			"\n\t\t\treturn size;\n\t\t}\n\t};\n}";
+	}
+
+	public static String getFactoryType(int n) {
+		return switch (n) {
+			case 1 -> "Function";
+			case 2 -> "BiFunction";
+			default -> "Function" + n;
+		};
 	}
 
 	public static String getRepeated(int from, int to, String separator, String string) {
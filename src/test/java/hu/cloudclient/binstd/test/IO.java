@@ -1,21 +1,65 @@
 package hu.cloudclient.binstd.test;
 
+import hu.cloudclient.binstd.IntIdentifiable;
 import hu.cloudclient.binstd.IntIdentifiableEnum;
+import hu.cloudclient.binstd.annotation.GenerateCodec;
+import hu.cloudclient.binstd.annotation.MaxLength;
+import hu.cloudclient.binstd.annotation.Order;
+import hu.cloudclient.binstd.annotation.VarInt;
 import hu.cloudclient.binstd.io.Codec;
 import hu.cloudclient.binstd.io.Codecs;
 import hu.cloudclient.binstd.io.DataInputWrapper;
 import hu.cloudclient.binstd.io.DataOutputWrapper;
+import hu.cloudclient.binstd.io.IncrementalDecoder;
+import hu.cloudclient.binstd.io.InputBuffer;
+import hu.cloudclient.binstd.io.OutputBuffer;
+import hu.cloudclient.binstd.io.Projection;
+import hu.cloudclient.binstd.io.RecordCodec;
+import hu.cloudclient.binstd.io.RecordCodecCompiler;
+import hu.cloudclient.binstd.io.RecordFileReader;
+import hu.cloudclient.binstd.io.RecordFileWriter;
+import hu.cloudclient.binstd.io.RecordView;
+import hu.cloudclient.binstd.io.StringDictionary;
+import hu.cloudclient.binstd.io.Utf8Cache;
+import hu.cloudclient.binstd.io.VarNum;
+import hu.cloudclient.binstd.io.VersionedCodec;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class IO {
 
@@ -24,6 +68,7 @@ public class IO {
 			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(value, codec);
 
 			assertEquals(numExpectedBytes, bytes.length);
+			assertEquals(numExpectedBytes, codec.encodedSize(value));
 
 			DataInputWrapper in = new DataInputWrapper(bytes);
 			assertEquals(codec.decode(in), value);
@@ -37,6 +82,7 @@ public class IO {
 			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(value, codec);
 			byte[] actualExpectedBytes = asByteArray(expectedBytes);
 			assertArrayEquals(actualExpectedBytes, bytes);
+			assertEquals(expectedBytes.length, codec.encodedSize(value));
 
 			DataInputWrapper in = new DataInputWrapper(bytes);
 			assertEquals(codec.decode(in), value);
@@ -184,6 +230,95 @@ public class IO {
 		validateExactly("abcdefghijklmnopqrstuvwxyz", codec, 26, 0x61, 0x62, 0x63, 0x64, 0x65, 0x66, 0x67, 0x68, 0x69, 0x6A, 0x6B, 0x6C, 0x6D, 0x6E, 0x6F, 0x70, 0x71, 0x72, 0x73, 0x74, 0x75, 0x76, 0x77, 0x78, 0x79, 0x7A);
 	}
 
+	@Test
+	public void testUtf8FastPath() throws IOException {
+		String[] strings = {"", "ascii only", "\u00e1rv\u00edzt\u0171r\u0151", "\u20ac \uD83D\uDE00", "lone \uD83D and \uDE00", "x".repeat(5000)};
+
+		for (String string : strings) {
+			byte[] expected = string.getBytes(StandardCharsets.UTF_8);
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(string, Codecs.UTF8);
+			assertEquals(VarNum.sizeOf(expected.length) + expected.length, bytes.length);
+			assertArrayEquals(expected, Arrays.copyOfRange(bytes, VarNum.sizeOf(expected.length), bytes.length));
+
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+			assertEquals(new String(expected, StandardCharsets.UTF_8), Codecs.UTF8.decode(new DataInputWrapper(bytes)));
+			assertEquals(new String(expected, StandardCharsets.UTF_8), Codecs.UTF8.decode(new DataInputWrapper(direct)));
+			assertEquals(new String(expected, StandardCharsets.UTF_8), Codecs.UTF8.decode(new DataInputWrapper(new DataInputStream(new ByteArrayInputStream(bytes)))));
+		}
+
+		byte[] tooLong = DataOutputWrapper.encodeAndGetBytes("too long", Codecs.UTF8);
+		assertThrows(IOException.class, () -> new DataInputWrapper(tooLong, new DataInputWrapper.Config(7, 16, 16)).readUTF8());
+		assertThrows(IOException.class, () -> new DataInputWrapper(new DataInputStream(new ByteArrayInputStream(tooLong)), new DataInputWrapper.Config(7, 16, 16)).readUTF8());
+	}
+
+	@Test
+	public void testUtf8Cache() throws IOException {
+		Utf8Cache cache = new Utf8Cache(16, 8);
+		Codec<String> codec = Codecs.cachedUTF8(cache);
+		Codec<List<String>> names = codec.dynArray(String[]::new).xmap(List::of, list -> list.toArray(String[]::new));
+		List<String> value = List.of("Pistike", "Sanyika", "Pistike", "Pistike", "\u00e1rv\u00edzt\u0171r\u0151", "Sanyika");
+		byte[] bytes = DataOutputWrapper.encodeAndGetBytes(value, names);
+
+		List<String> decoded = names.decode(new DataInputWrapper(bytes));
+		assertEquals(value, decoded);
+		assertSame(decoded.get(0), decoded.get(2));
+		assertSame(decoded.get(1), decoded.get(5));
+		// The long string is never cached, so only the 2 short ones count as misses
+		assertEquals(new Utf8Cache.Stats(3, 2), cache.stats());
+
+		List<String> streamed = names.decode(new DataInputWrapper(new DataInputStream(new ByteArrayInputStream(bytes))));
+		assertSame(decoded.get(0), streamed.get(0));
+		assertEquals(new Utf8Cache.Stats(8, 2), cache.stats());
+		assertEquals(bytes.length, names.encodedSize(value));
+
+		// A single set of 2 ways: "a" and "b" are added, "a" is hit, then "c" evicts one of them
+		byte[] abac = DataOutputWrapper.encodeAndGetBytes(List.of("a", "b", "a", "c", "a"), names);
+		Utf8Cache lru = new Utf8Cache(2, 8, 2, Utf8Cache.Eviction.LRU);
+		Utf8Cache fifo = new Utf8Cache(2, 8, 2, Utf8Cache.Eviction.FIFO);
+
+		Codecs.cachedUTF8(lru).dynArray(String[]::new).decode(new DataInputWrapper(abac));
+		Codecs.cachedUTF8(fifo).dynArray(String[]::new).decode(new DataInputWrapper(abac));
+		// LRU evicts "b", so the last "a" is a hit, FIFO evicts "a"
+		assertEquals(new Utf8Cache.Stats(2, 3), lru.stats());
+		assertEquals(new Utf8Cache.Stats(1, 4), fifo.stats());
+		assertThrows(IllegalArgumentException.class, () -> new Utf8Cache(16, 8, 17, Utf8Cache.Eviction.LRU));
+	}
+
+	@Test
+	public void testStringDictionary() throws IOException {
+		StringDictionary sender = new StringDictionary(2);
+		StringDictionary receiver = new StringDictionary(2);
+		List<String> sent = List.of("health", "mana", "health", "health", "stamina", "mana", "stamina", "health");
+		OutputBuffer buffer = new OutputBuffer();
+		DataOutputWrapper out = new DataOutputWrapper(buffer);
+
+		// health and mana get ids 0 and 1, stamina takes over 0, so health and mana are sent again after it
+		int[] sizes = {1 + 1 + 6, 1 + 1 + 4, 1, 1, 1 + 1 + 7, 1, 1, 1 + 1 + 6};
+
+		for (int i = 0; i < sent.size(); i++) {
+			assertEquals(sizes[i], sender.encodedSize(sent.get(i)));
+			int before = buffer.size();
+			sender.encode(out, sent.get(i));
+			assertEquals(sizes[i], buffer.size() - before);
+		}
+
+		sender.reset();
+		assertEquals(1 + 1 + 1 + 4, sender.encodedSize("mana"));
+		sender.encode(out, "mana");
+		sender.encode(out, "mana");
+
+		DataInputWrapper in = new DataInputWrapper(buffer.toByteArray());
+
+		for (String value : sent) {
+			assertEquals(value, receiver.decode(in));
+		}
+
+		assertEquals("mana", receiver.decode(in));
+		assertEquals("mana", receiver.decode(in));
+		assertEquals(buffer.size(), in.bytesRead());
+		assertThrows(IOException.class, () -> new StringDictionary(2).decode(new DataInputWrapper(new byte[]{2})));
+	}
+
 	@Test
 	public void testUUID() {
 		Codec<UUID> codec = Codecs.UUID;
@@ -201,6 +336,59 @@ public class IO {
 		public static final Codec<TestEnum> CODEC_4 = Codecs.createIntIdentifiable(i -> TestEnum.values()[i], TestEnum::ordinal);
 	}
 
+	enum Opcode implements IntIdentifiable {
+		PING(-5),
+		LOGIN(1000),
+		CHAT(1 << 20),
+		QUIT(3);
+
+		private final int id;
+
+		Opcode(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public int getIntId() {
+			return id;
+		}
+	}
+
+	@Test
+	public void testIdTable() throws IOException {
+		Codec<Opcode> sparse = Codecs.createIntIdentifiable(Opcode.values());
+		Codec<Opcode> reordered = Codecs.createIntIdentifiable(new Opcode[]{Opcode.CHAT, Opcode.QUIT, Opcode.PING, Opcode.LOGIN}, Opcode::getIntId);
+
+		for (Opcode opcode : Opcode.values()) {
+			validate(opcode, sparse, VarNum.sizeOf(opcode.getIntId()));
+			validate(opcode, reordered, VarNum.sizeOf(opcode.getIntId()));
+		}
+
+		for (int id : new int[]{0, 4, 999, -1, Integer.MIN_VALUE, (1 << 20) + 1}) {
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(id, Codecs.VAR32);
+			assertThrows(IOException.class, () -> sparse.decode(new DataInputWrapper(bytes)));
+		}
+
+		byte[] pastLast = DataOutputWrapper.encodeAndGetBytes(TestEnum.values().length, Codecs.VAR32);
+		assertThrows(IOException.class, () -> TestEnum.CODEC.decode(new DataInputWrapper(pastLast)));
+		assertThrows(IOException.class, () -> TestEnum.CODEC_2.decode(new DataInputWrapper(pastLast)));
+		assertThrows(IOException.class, () -> new DataInputWrapper(pastLast).readEnum(TestEnum.class));
+		assertThrows(IOException.class, () -> new DataInputWrapper(pastLast).readId(TestEnum.values()));
+		assertThrows(IllegalArgumentException.class, () -> Codecs.createIntIdentifiable(new Opcode[]{Opcode.QUIT, Opcode.QUIT}, Opcode::getIntId));
+
+		// Sparse ids colliding in the hash table are probed past
+		Integer[] ids = new Integer[10000];
+		Arrays.setAll(ids, i -> i * 65537 - 5000 * 65537);
+		Codec<Integer> large = Codecs.createIntIdentifiable(ids, i -> i);
+
+		for (int id : ids) {
+			validate(id, large, VarNum.sizeOf(id));
+		}
+
+		byte[] unknown = DataOutputWrapper.encodeAndGetBytes(65536, Codecs.VAR32);
+		assertThrows(IOException.class, () -> large.decode(new DataInputWrapper(unknown)));
+	}
+
 	@Test
 	public void testEnum() {
 		validateExactly(TestEnum.FOO, TestEnum.CODEC, 0x00);
@@ -221,6 +409,175 @@ public class IO {
 		validateExactly(TestEnum.FOOBAR, TestEnum.CODEC_4, 0x02);
 	}
 
+	@Test
+	public void testZigZag() {
+		validateExactly(0, Codecs.SVAR32, 0x00);
+		validateExactly(-1, Codecs.SVAR32, 0x01);
+		validateExactly(1, Codecs.SVAR32, 0x02);
+		validateExactly(-65, Codecs.SVAR32, 0x81, 0x01);
+		validate(Integer.MIN_VALUE, Codecs.SVAR32, 5);
+		validate(Long.MIN_VALUE, Codecs.SVAR64, 10);
+		validate(-3L, Codecs.SVAR64, 1);
+
+		try {
+			int[] ints = {-1, 2, -300, Integer.MAX_VALUE};
+			long[] longs = {-1, 2, -300, Long.MIN_VALUE};
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(ints, Codecs.DYN_SVAR32_ARRAY);
+
+			assertEquals(1 + 1 + 1 + 2 + 5, bytes.length);
+			assertArrayEquals(ints, Codecs.DYN_SVAR32_ARRAY.decode(new DataInputWrapper(bytes)));
+			assertArrayEquals(longs, Codecs.fixedSVar64Array(4).decode(new DataInputWrapper(DataOutputWrapper.encodeAndGetBytes(longs, Codecs.fixedSVar64Array(4)))));
+			assertEquals(1 + 1 + 2 + 10, Codecs.fixedSVar64Array(4).encodedSize(longs));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Test
+	public void testVarIntFastPath() throws IOException {
+		long[] longs = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 55, 1L << 56};
+		int[] ints = {0, 1, 127, 128, 16383, 16384, 1 << 21, 1 << 28, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+
+		// Followed by 3 more values every one of them is read from a full 8 byte word
+		for (long l : longs) {
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(new long[] {l, l, l, l}, Codecs.fixedVar64Array(4));
+			assertArrayEquals(new long[] {l, l, l, l}, Codecs.fixedVar64Array(4).decode(new DataInputWrapper(bytes)));
+		}
+
+		for (int i : ints) {
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(new int[] {i, i, i, i}, Codecs.fixedVar32Array(4));
+			assertArrayEquals(new int[] {i, i, i, i}, Codecs.fixedVar32Array(4).decode(new DataInputWrapper(bytes)));
+		}
+
+		byte[] tooLong = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01, 0, 0, 0, 0, 0, 0};
+		assertThrows(IOException.class, () -> new DataInputWrapper(tooLong).readVar32());
+		assertEquals(1L << 35, new DataInputWrapper(tooLong).readVar64());
+
+		byte[] elevenBytes = new byte[12];
+		Arrays.fill(elevenBytes, 0, 10, (byte) 0xFF);
+		assertThrows(IOException.class, () -> new DataInputWrapper(elevenBytes).readVar64());
+	}
+
+	@Test
+	public void testPrefixVarInt() throws IOException {
+		validateExactly(0, Codecs.PREFIX_VAR32, 0x00);
+		validateExactly(127, Codecs.PREFIX_VAR32, 0x7F);
+		validateExactly(128, Codecs.PREFIX_VAR32, 0x80, 0x80);
+		validateExactly(16384, Codecs.PREFIX_VAR32, 0xC0, 0x40, 0x00);
+		validateExactly(-1, Codecs.PREFIX_VAR32, 0xF0, 0xFF, 0xFF, 0xFF, 0xFF);
+		validateExactly(1L << 55, Codecs.PREFIX_VAR64, 0xFE, 0x80, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+		validateExactly(1L << 56, Codecs.PREFIX_VAR64, 0xFF, 0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00);
+		validateExactly(-1L, Codecs.PREFIX_VAR64, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF);
+
+		long[] longs = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 55, 1L << 56};
+		int[] ints = {0, 1, 127, 128, 16383, 16384, 1 << 21, 1 << 28, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+
+		// Buffered input reads most values with one load, a stream byte by byte
+		for (Codec<long[]> codec : List.of(Codecs.DYN_PREFIX_VAR64_ARRAY, Codecs.dynPrefixVar64Array(12), Codecs.fixedPrefixVar64Array(12))) {
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(longs, codec);
+			assertEquals(bytes.length, codec.encodedSize(longs));
+			assertArrayEquals(longs, codec.decode(new DataInputWrapper(bytes)));
+			assertArrayEquals(longs, codec.decode(new DataInputWrapper(new DataInputStream(new ByteArrayInputStream(bytes)))));
+
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			codec.encode(new DataOutputWrapper(new DataOutputStream(stream)), longs);
+			assertArrayEquals(bytes, stream.toByteArray());
+		}
+
+		for (Codec<int[]> codec : List.of(Codecs.DYN_PREFIX_VAR32_ARRAY, Codecs.dynPrefixVar32Array(11), Codecs.fixedPrefixVar32Array(11))) {
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(ints, codec);
+			assertEquals(bytes.length, codec.encodedSize(ints));
+			assertArrayEquals(ints, codec.decode(new DataInputWrapper(bytes)));
+			assertArrayEquals(ints, codec.decode(new DataInputWrapper(new DataInputStream(new ByteArrayInputStream(bytes)))));
+
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			codec.encode(new DataOutputWrapper(new DataOutputStream(stream)), ints);
+			assertArrayEquals(bytes, stream.toByteArray());
+		}
+
+		byte[] tooBig = DataOutputWrapper.encodeAndGetBytes(1L << 32, Codecs.PREFIX_VAR64);
+		assertThrows(IOException.class, () -> Codecs.PREFIX_VAR32.decode(new DataInputWrapper(tooBig)));
+	}
+
+	@Test
+	public void testDeltaArray() throws IOException {
+		long[] timestamps = {1_700_000_000_000L, 1_700_000_001_000L, 1_700_000_002_000L, 1_700_000_003_001L, 1_700_000_003_000L};
+		int[] ids = {3, 7, 8, 100, Integer.MIN_VALUE, Integer.MAX_VALUE};
+
+		for (Codec<long[]> codec : List.of(Codecs.DYN_DELTA_I64_ARRAY, Codecs.DYN_DOUBLE_DELTA_I64_ARRAY, Codecs.dynDeltaI64Array(5), Codecs.fixedDoubleDeltaI64Array(5))) {
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(timestamps, codec);
+			assertEquals(bytes.length, codec.encodedSize(timestamps));
+			assertArrayEquals(timestamps, codec.decode(new DataInputWrapper(bytes)));
+		}
+
+		for (Codec<int[]> codec : List.of(Codecs.DYN_DELTA_I32_ARRAY, Codecs.DYN_DOUBLE_DELTA_I32_ARRAY, Codecs.fixedDeltaI32Array(6), Codecs.dynDoubleDeltaI32Array(6))) {
+			byte[] bytes = DataOutputWrapper.encodeAndGetBytes(ids, codec);
+			assertEquals(bytes.length, codec.encodedSize(ids));
+			assertArrayEquals(ids, codec.decode(new DataInputWrapper(bytes)));
+		}
+
+		// length, first value, then deltas 1000, 1000, 1001, -1 / delta-of-deltas 1000, 0, 1, -1002
+		assertEquals(1 + 6 + 2 + 2 + 2 + 1, Codecs.DYN_DELTA_I64_ARRAY.encodedSize(timestamps));
+		assertEquals(1 + 6 + 2 + 1 + 1 + 2, Codecs.DYN_DOUBLE_DELTA_I64_ARRAY.encodedSize(timestamps));
+		assertEquals(1, Codecs.DYN_DOUBLE_DELTA_I32_ARRAY.encodedSize(new int[0]));
+	}
+
+	@Test
+	public void testStreamVar32() throws IOException {
+		int[] ids = {0, 1, 255, 256, 65535, 65536, 16777215, 16777216, -1, Integer.MIN_VALUE, 7};
+
+		for (int[] ints : List.of(ids, new int[] {300}, new int[0])) {
+			for (Codec<int[]> codec : List.of(Codecs.DYN_STREAM_VAR32_ARRAY, Codecs.dynStreamVar32Array(11), Codecs.fixedStreamVar32Array(ints.length))) {
+				byte[] bytes = DataOutputWrapper.encodeAndGetBytes(ints, codec);
+				assertEquals(bytes.length, codec.encodedSize(ints));
+				assertArrayEquals(ints, codec.decode(new DataInputWrapper(bytes)));
+				assertArrayEquals(ints, codec.decode(new DataInputWrapper(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip())));
+				assertArrayEquals(ints, codec.decode(new DataInputWrapper(new DataInputStream(new ByteArrayInputStream(bytes)))));
+
+				ByteArrayOutputStream stream = new ByteArrayOutputStream();
+				codec.encode(new DataOutputWrapper(new DataOutputStream(stream)), ints);
+				assertArrayEquals(bytes, stream.toByteArray());
+			}
+		}
+
+		// The control byte of a single value may only use its lowest 2 bits
+		byte[] malformed = {1, 0b0101, 44, 1};
+		assertThrows(IOException.class, () -> Codecs.DYN_STREAM_VAR32_ARRAY.decode(new DataInputWrapper(malformed)));
+		assertThrows(IOException.class, () -> Codecs.DYN_STREAM_VAR32_ARRAY.skip(new DataInputWrapper(malformed)));
+		malformed[1] = 1;
+		assertArrayEquals(new int[] {300}, Codecs.DYN_STREAM_VAR32_ARRAY.decode(new DataInputWrapper(malformed)));
+
+		// length, 3 control bytes, then 1, 1, 1, 2, 2, 3, 3, 4, 4, 4 and 1 data bytes
+		assertEquals(1 + 3 + 26, Codecs.DYN_STREAM_VAR32_ARRAY.encodedSize(ids));
+		assertThrows(IOException.class, () -> Codecs.dynStreamVar32Array(10).decode(new DataInputWrapper(DataOutputWrapper.encodeAndGetBytes(ids, Codecs.DYN_STREAM_VAR32_ARRAY))));
+	}
+
+	@Test
+	public void testBitPacking() throws IOException {
+		int[] palette = new int[300];
+
+		for (int i = 0; i < palette.length; i++) {
+			palette[i] = 1000 + i * 7 % 13;
+		}
+
+		int[] wide = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, 5};
+		int[] constant = {42, 42, 42};
+
+		for (int[] ints : List.of(palette, wide, constant, new int[0])) {
+			for (Codec<int[]> codec : List.of(Codecs.DYN_PACKED_I32_ARRAY, Codecs.dynPackedI32Array(300), Codecs.fixedPackedI32Array(ints.length))) {
+				byte[] bytes = DataOutputWrapper.encodeAndGetBytes(ints, codec);
+				assertEquals(bytes.length, codec.encodedSize(ints));
+				assertArrayEquals(ints, codec.decode(new DataInputWrapper(bytes)));
+			}
+		}
+
+		// length, then 3 blocks of min 1000, width 4 and 4 bits per value
+		assertEquals(2 + 3 * (2 + 1) + (128 + 128 + 44) / 2, Codecs.DYN_PACKED_I32_ARRAY.encodedSize(palette));
+		// min and width 0, no packed bits
+		assertEquals(1 + 1, Codecs.fixedPackedI32Array(3).encodedSize(constant));
+		assertEquals(1 + 5 + 1 + 5 * 4, Codecs.DYN_PACKED_I32_ARRAY.encodedSize(wide));
+	}
+
 	@Test
 	public void testNullable() {
 		Codec<@Nullable String> codec = Codecs.UTF8.nullable();
@@ -236,6 +593,12 @@ public class IO {
 			Codecs.F64, Vec3d::z
 		);
 
+		public static final Codec<Vec3d> PRIMITIVE_CODEC = Codec.rec(Vec3d::new,
+			Codecs.F64.doubleField(Vec3d::x),
+			Codecs.F64.doubleField(Vec3d::y),
+			Codecs.F64.doubleField(Vec3d::z)
+		);
+
 		public static final Codec<Vec3d> KINDA_WORKS_BUT_THIS_IS_NOT_AN_OPTIMAL_SOLUTION_CODEC = new Codec<>() {
 
 			@Override
@@ -258,6 +621,383 @@ public class IO {
 	public void testCustom() {
 		validate(new Vec3d(420, 69, 0), Vec3d.CODEC, 3 * 8);
 		validate(new Vec3d(420, 69, 0), Vec3d.KINDA_WORKS_BUT_THIS_IS_NOT_AN_OPTIMAL_SOLUTION_CODEC, 3 * 8);
+		validate(new Vec3d(420, 69, 0), Vec3d.PRIMITIVE_CODEC, 3 * 8);
+		assertEquals(3 * 8, Vec3d.PRIMITIVE_CODEC.fixedSize());
+	}
+
+	record Profile(String name, int level, long score, Integer rank, BedwarsTeam team, @Nullable Vec3d position) {}
+
+	@Test
+	public void testCompiledRecord() {
+		Codec<?>[] codecs = {Codecs.UTF8, Codecs.U8, Codecs.VAR64.xmap(l -> l, l -> l), Codecs.VAR32, BedwarsTeam.CODEC, Vec3d.CODEC.nullable()};
+		Codec<Profile> compiled = RecordCodecCompiler.compile(MethodHandles.lookup(), Profile.class, codecs);
+		Codec<Profile> fallback = RecordCodecCompiler.compile(MethodHandles.lookup().dropLookupMode(MethodHandles.Lookup.PRIVATE), Profile.class, codecs);
+
+		assertTrue(compiled.getClass().isHidden());
+		assertFalse(fallback.getClass().isHidden());
+
+		for (Codec<Profile> codec : List.of(compiled, fallback)) {
+			validate(new Profile("Pistike", 12, 300, 7, new BedwarsTeam(4, TeamColor.RED), null), codec, 1 + 7 + 1 + 2 + 1 + 1 + 1);
+			validate(new Profile("", 0, 0, -1, new BedwarsTeam(6, TeamColor.YELLOW), new Vec3d(1, 2, 3)), codec, 1 + 1 + 1 + 5 + 1 + 1 + 3 * 8);
+		}
+
+		assertEquals(3 * 8, RecordCodecCompiler.compile(MethodHandles.lookup(), Vec3d.class, Codecs.F64, Codecs.F64, Codecs.F64).fixedSize());
+	}
+
+	@GenerateCodec
+	enum Rank {
+		IRON,
+		GOLD
+	}
+
+	@GenerateCodec
+	record Point(int x, int y) {}
+
+	@GenerateCodec
+	record Snapshot(@Order(2) @VarInt int id, @Order(1) @MaxLength(16) String name, @Order(3) Rank rank, @Order(4) Point position) {}
+
+	@Test
+	public void testGeneratedCodec() {
+		validateExactly(new Snapshot(300, "ab", Rank.GOLD, new Point(1, 2)), IO_SnapshotCodec.INSTANCE,
+			0x02, 'a', 'b',
+			0xAC, 0x02,
+			0x01,
+			0x00, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x02
+		);
+
+		assertEquals(8, IO_PointCodec.INSTANCE.fixedSize());
+		assertEquals(1, IO_RankCodec.INSTANCE.fixedSize());
+		assertThrows(IOException.class, () -> IO_SnapshotCodec.INSTANCE.decode(new DataInputWrapper(new byte[]{17})));
+	}
+
+	record Node(UUID id, TeamColor color, Vec3d position, Node[] children) {}
+
+	@Test
+	public void testForRecord() throws IOException {
+		Codec<Node> codec = Codec.forRecord(Node.class);
+		Node leaf = new Node(new UUID(1, 2), TeamColor.BLUE, new Vec3d(1, 2, 3), new Node[0]);
+		Node root = new Node(new UUID(3, 4), TeamColor.RED, new Vec3d(4, 5, 6), new Node[]{leaf, leaf});
+
+		byte[] bytes = DataOutputWrapper.encodeAndGetBytes(root, codec);
+		Node decoded = codec.decode(new DataInputWrapper(bytes));
+
+		assertEquals(3 * (16 + 1 + 3 * 8 + 1), bytes.length);
+		assertEquals(bytes.length, codec.encodedSize(root));
+		assertEquals(root.position, decoded.position);
+		assertEquals(leaf.id, decoded.children[1].id);
+		assertEquals(0, decoded.children[0].children.length);
+		assertSame(codec, Codec.forRecord(Node.class));
+		assertEquals(3 * 8, Codec.forRecord(Vec3d.class).fixedSize());
+
+		Codec<Stats> stats = Codec.forRecord(Stats.class);
+
+		for (Stats value : List.of(new Stats(null, null, 'a', null, new Integer[]{1, null}), new Stats(7, 'b', 'c', "note", new Integer[0]))) {
+			byte[] statsBytes = DataOutputWrapper.encodeAndGetBytes(value, stats);
+			Stats decodedStats = stats.decode(new DataInputWrapper(statsBytes));
+
+			assertEquals(statsBytes.length, stats.encodedSize(value));
+			assertEquals(value.rank, decodedStats.rank);
+			assertEquals(value.grade, decodedStats.grade);
+			assertEquals(value.initial, decodedStats.initial);
+			assertEquals(value.note, decodedStats.note);
+			assertArrayEquals(value.history, decodedStats.history);
+		}
+
+		// presence byte for both boxed components and the annotated one, 2 bytes for char
+		assertEquals(1 + 1 + 2 + 1 + 1, stats.encodedSize(new Stats(null, null, 'a', null, new Integer[0])));
+		assertThrows(IllegalArgumentException.class, () -> Codec.forRecord(Samples.class));
+	}
+
+	static final class Annotations {
+
+		@Retention(RetentionPolicy.RUNTIME)
+		@interface Nullable {}
+
+	}
+
+	record Stats(Integer rank, Character grade, char initial, @Annotations.Nullable String note, Integer[] history) {}
+
+	record Samples(float[] values) {}
+
+	// Skips value followed by a marker byte, from a buffer and a stream
+	private static <T> void validateSkip(T value, Codec<T> codec) throws IOException {
+		OutputBuffer buffer = new OutputBuffer();
+		DataOutputWrapper out = new DataOutputWrapper(buffer);
+		codec.encode(out, value);
+		out.writeI8(0x5A);
+		byte[] bytes = buffer.toByteArray();
+
+		for (DataInputWrapper in : List.of(new DataInputWrapper(bytes), new DataInputWrapper(new DataInputStream(new ByteArrayInputStream(bytes))))) {
+			codec.skip(in);
+			assertEquals(bytes.length - 1, in.bytesRead());
+			assertEquals(0x5A, in.readI8());
+		}
+	}
+
+	@Test
+	public void testSkip() throws IOException {
+		Codec<Map<String, Collection<int[]>>> nested = Codec.dynMap(HashMap::new, Codecs.UTF8, Codecs.DYN_I32_ARRAY.dynCollection(ArrayList::new));
+		Map<String, Collection<int[]>> map = Map.of("a", List.of(new int[]{1, 2}, new int[0]), "\u20ac", List.of());
+
+		validateSkip("\u00e1rv\u00edzt\u0171r\u0151", Codecs.UTF8);
+		validateSkip(new long[]{1, -1, Long.MAX_VALUE}, Codecs.DYN_VAR64_ARRAY);
+		validateSkip(new long[]{1, -1}, Codecs.dynI64Array(2));
+
+		int[] ints = new int[300];
+		long[] longs = new long[300];
+		Arrays.setAll(ints, i -> i * i * (i % 3 - 1) * 997);
+		Arrays.setAll(longs, i -> (long) ints[i] << (i % 40));
+
+		for (Codec<int[]> codec : List.of(Codecs.DYN_PREFIX_VAR32_ARRAY, Codecs.fixedPrefixVar32Array(300), Codecs.DYN_DELTA_I32_ARRAY, Codecs.dynDoubleDeltaI32Array(300),
+			Codecs.DYN_STREAM_VAR32_ARRAY, Codecs.fixedStreamVar32Array(300), Codecs.dynStreamVar32Array(300), Codecs.DYN_PACKED_I32_ARRAY, Codecs.fixedPackedI32Array(300))) {
+			validateSkip(ints, codec);
+		}
+
+		validateSkip(Arrays.copyOf(ints, 5), Codecs.DYN_STREAM_VAR32_ARRAY);
+
+		for (Codec<long[]> codec : List.of(Codecs.DYN_PREFIX_VAR64_ARRAY, Codecs.dynPrefixVar64Array(300), Codecs.fixedDeltaI64Array(300), Codecs.DYN_DOUBLE_DELTA_I64_ARRAY)) {
+			validateSkip(longs, codec);
+		}
+		validateSkip(new Vec3d(1, 2, 3), Vec3d.PRIMITIVE_CODEC);
+		validateSkip(new Vec3d[]{new Vec3d(1, 2, 3), null}, Vec3d.CODEC.nullable().dynArray(Vec3d[]::new));
+		validateSkip(map, nested);
+		validateSkip(Optional.of("x"), Codecs.UTF8.optional());
+		validateSkip(new Snapshot(300, "ab", Rank.GOLD, new Point(1, 2)), IO_SnapshotCodec.INSTANCE);
+
+		Codec<?>[] codecs = {Codecs.UTF8, Codecs.U8, Codecs.VAR64.xmap(l -> l, l -> l), Codecs.VAR32, BedwarsTeam.CODEC, Vec3d.CODEC.nullable()};
+		Profile profile = new Profile("Pistike", 12, 300, 7, new BedwarsTeam(4, TeamColor.RED), new Vec3d(1, 2, 3));
+		validateSkip(profile, RecordCodecCompiler.compile(MethodHandles.lookup(), Profile.class, codecs));
+		validateSkip(profile, RecordCodecCompiler.compile(MethodHandles.lookup().dropLookupMode(MethodHandles.Lookup.PRIVATE), Profile.class, codecs));
+		validateSkip(new Vec3d(1, 2, 3), RecordCodecCompiler.compile(MethodHandles.lookup(), Vec3d.class, Codecs.F64, Codecs.F64, Codecs.F64));
+		validateSkip(new Node(new UUID(1, 2), TeamColor.BLUE, new Vec3d(1, 2, 3), new Node[0]), Codec.forRecord(Node.class));
+
+		// Fixed-width codecs jump over their bytes, decode is never called
+		Codec<Integer> undecodable = new Codec<>() {
+
+			@Override
+			public Integer decode(DataInputWrapper in) {
+				throw new AssertionError("decode called by skip");
+			}
+
+			@Override
+			public void encode(DataOutputWrapper out, Integer value) throws IOException {
+				out.writeI32(value);
+			}
+
+			@Override
+			public int fixedSize() {
+				return 4;
+			}
+
+		};
+
+		validateSkip(5, undecodable);
+		DataInputWrapper uuids = new DataInputWrapper(new byte[16 * 3 + 8]);
+		Codecs.UUID.skip(uuids);
+		Codecs.UUID.fixedArray(UUID[]::new, 2).skip(uuids);
+		Codecs.I64.skip(uuids);
+		assertEquals(16 * 3 + 8, uuids.bytesRead());
+
+		assertThrows(EOFException.class, () -> new DataInputWrapper(new byte[]{3, 'a'}).skipUTF8());
+		assertThrows(EOFException.class, () -> new DataInputWrapper(new DataInputStream(new ByteArrayInputStream(new byte[]{3, 'a'}))).skipUTF8());
+	}
+
+	@Test
+	public void testProjection() throws IOException {
+		RecordCodec<Profile> codec = Codec.rec(Profile::new,
+			Codecs.UTF8.field(Profile::name),
+			Codecs.VAR32.intField(Profile::level),
+			Codecs.I64.longField(Profile::score),
+			Codecs.I32.field(Profile::rank),
+			BedwarsTeam.CODEC.field(Profile::team),
+			Vec3d.CODEC.nullable().field(Profile::position)
+		);
+		Profile profile = new Profile("Pistike", 12, 300, 7, new BedwarsTeam(4, TeamColor.RED), new Vec3d(1, 2, 3));
+
+		OutputBuffer buffer = new OutputBuffer();
+		DataOutputWrapper out = new DataOutputWrapper(buffer);
+		codec.encode(out, profile);
+		codec.encode(out, profile);
+		out.writeVar32(42);
+
+		DataInputWrapper in = new DataInputWrapper(buffer.toByteArray());
+		Projection projection = codec.project(4, 0);
+		assertArrayEquals(new Object[]{profile.team(), profile.name()}, projection.decode(in));
+
+		Map<Integer, Object> values = new HashMap<>();
+		codec.project(1, 2, 3).decode(in, values::put);
+		assertEquals(Map.of(1, 12, 2, 300L, 3, 7), values);
+		assertEquals(42, in.readVar32());
+
+		Node node = new Node(new UUID(1, 2), TeamColor.BLUE, new Vec3d(1, 2, 3), new Node[0]);
+		buffer.reset();
+		Codec.forRecord(Node.class).encode(out, node);
+		assertArrayEquals(new Object[]{node.position()}, Codec.forRecord(Node.class).project(2).decode(new DataInputWrapper(buffer.toByteArray())));
+
+		RecordCodec<Vec3d> compiled = RecordCodecCompiler.compile(MethodHandles.lookup(), Vec3d.class, Codecs.F64, Codecs.F64, Codecs.F64);
+		buffer.reset();
+		compiled.encode(out, new Vec3d(1, 2, 3));
+		assertArrayEquals(new Object[]{3.0, 1.0}, compiled.project(2, 0).decode(new DataInputWrapper(buffer.toByteArray())));
+		assertEquals(3, compiled.fields().size());
+
+		assertThrows(IllegalArgumentException.class, () -> codec.project(6));
+		assertThrows(IllegalArgumentException.class, () -> codec.project(1, 1));
+	}
+
+	record Particle(int id, double mass, UUID owner, boolean alive, int[] color) {
+
+		static final RecordCodec<Particle> CODEC = Codec.rec(Particle::new,
+			Codecs.I32, Particle::id,
+			Codecs.F64, Particle::mass,
+			Codecs.UUID, Particle::owner,
+			Codecs.BOOL, Particle::alive,
+			Codecs.fixedI32Array(3), Particle::color
+		);
+
+	}
+
+	@Test
+	public void testRecordView() throws IOException {
+		OutputBuffer buffer = new OutputBuffer();
+		DataOutputWrapper out = new DataOutputWrapper(buffer);
+
+		for (int i = 0; i < 10; i++) {
+			Particle.CODEC.encode(out, new Particle(i, i * 0.5, new UUID(i, -i), i % 2 == 0, new int[]{i, i + 1, i + 2}));
+		}
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(buffer.size() + 3).position(3);
+		direct.put(buffer.array(), 0, buffer.size()).position(3);
+		RecordView view = new RecordView(Particle.CODEC).wrap(direct);
+
+		assertEquals(4 + 8 + 16 + 1 + 12, view.size());
+		assertEquals(10, view.count());
+		assertEquals(29, view.offset(4));
+		assertEquals(7, view.at(7).getI32(0));
+		assertEquals(3.5, view.getF64(1));
+		assertEquals(new UUID(7, -7), view.getUUID(2));
+		assertFalse(view.getBool(3));
+		assertEquals(9, view.slice(4).getInt(8));
+		assertArrayEquals(new int[]{7, 8, 9}, (int[]) view.get(4));
+
+		view.at(3).setI32(0, 300);
+		view.setF64(1, -1);
+		view.setBool(3, true);
+		view.set(4, new int[]{5, 6, 7});
+		Particle patched = Particle.CODEC.decode(new DataInputWrapper(direct.position(3 + 3 * view.size())));
+		assertEquals(300, patched.id());
+		assertEquals(-1, patched.mass());
+		assertEquals(new UUID(3, -3), patched.owner());
+		assertTrue(patched.alive());
+		assertArrayEquals(new int[]{5, 6, 7}, patched.color());
+
+		assertThrows(IllegalArgumentException.class, () -> view.getI64(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> view.at(10));
+		assertThrows(IllegalArgumentException.class, () -> new RecordView(Codec.forRecord(Node.class)));
+	}
+
+	record AccountV1(String name, int level) {}
+
+	record AccountV2(int level, String name, long coins) {}
+
+	@Test
+	public void testVersionedCodec() throws IOException {
+		VersionedCodec<AccountV1> v1 = new VersionedCodec<>(Codec.forRecord(AccountV1.class), new AccountV1("", 0), 1, 2);
+		VersionedCodec<AccountV2> v2 = new VersionedCodec<>(Codec.rec(AccountV2::new,
+			Codecs.I32.intField(AccountV2::level),
+			Codecs.UTF8.field(AccountV2::name),
+			Codecs.VAR64.longField(AccountV2::coins)
+		), new AccountV2(0, "", 100), 2, 1, 3);
+
+		assertNotEquals(v1.fingerprint(), v2.fingerprint());
+		validate(new AccountV1("Pistike", 12), v1, 4 + 8 + 4);
+		assertSame(v1, v1.forPeer(v1.fingerprint()));
+
+		OutputBuffer buffer = new OutputBuffer();
+		DataOutputWrapper out = new DataOutputWrapper(buffer);
+		v2.forPeer(v1.fingerprint()).encode(out, new AccountV2(12, "Pistike", 5000));
+		v1.tagged().encode(out, new AccountV1("Jancsi", 3));
+		v1.encode(out, new AccountV1("Juliska", 4));
+		out.writeVar32(42);
+
+		DataInputWrapper in = new DataInputWrapper(buffer.toByteArray());
+		assertEquals(new AccountV1("Pistike", 12), v1.decode(in));
+		assertEquals(new AccountV2(3, "Jancsi", 100), v2.decode(in));
+		assertThrows(IOException.class, () -> v2.decode(in));
+
+		DataInputWrapper skipped = new DataInputWrapper(buffer.toByteArray());
+		v1.skip(skipped);
+		v1.skip(skipped);
+		v1.skip(skipped);
+		assertEquals(42, skipped.readVar32());
+
+		assertThrows(IllegalArgumentException.class, () -> new VersionedCodec<>(Codec.forRecord(AccountV1.class), new AccountV1("", 0), 1, 1));
+	}
+
+	@Test
+	public void testRecordFile() throws IOException {
+		Path file = Files.createTempFile("binstd", ".records");
+
+		try {
+			try (RecordFileWriter<Profile> writer = new RecordFileWriter<>(FileChannel.open(file, StandardOpenOption.WRITE), Codec.forRecord(Profile.class), profile -> profile.score())) {
+				for (int i = 0; i < 10000; i++) {
+					assertEquals(i, writer.append(new Profile("player" + i, i % 100, (i * 7919L) % 10000, i, new BedwarsTeam(i % 16, TeamColor.GREEN), new Vec3d(i, i, i))));
+				}
+			}
+
+			try (RecordFileReader<Profile> reader = new RecordFileReader<>(FileChannel.open(file), Codec.forRecord(Profile.class))) {
+				assertEquals(10000, reader.count());
+				assertTrue(reader.keyed());
+				assertEquals("player1234", reader.get(1234).name());
+				assertEquals(new Vec3d(9999, 9999, 9999), reader.get(9999).position());
+				assertEquals(1, reader.indexOf(7919));
+				assertEquals("player2", reader.find(15838 % 10000).name());
+				assertEquals(-1, reader.indexOf(10000));
+				assertNull(reader.find(-1));
+				assertThrows(IndexOutOfBoundsException.class, () -> reader.get(10000));
+			}
+
+			// Overwrites the longer file without truncating it first
+			try (RecordFileWriter<Vec3d> writer = new RecordFileWriter<>(FileChannel.open(file, StandardOpenOption.WRITE), Vec3d.CODEC)) {
+				writer.append(new Vec3d(1, 2, 3));
+			}
+
+			assertEquals(3 * 8 + 8 + 17, Files.size(file));
+
+			try (RecordFileReader<Vec3d> reader = new RecordFileReader<>(FileChannel.open(file), Vec3d.CODEC)) {
+				assertEquals(1, reader.count());
+				assertEquals(new Vec3d(1, 2, 3), reader.get(0));
+				assertThrows(IllegalStateException.class, () -> reader.indexOf(0));
+			}
+
+			// Negative and repeated keys, the first record with a key is found
+			try (RecordFileWriter<Vec3d> writer = new RecordFileWriter<>(FileChannel.open(file, StandardOpenOption.WRITE), Vec3d.CODEC, v -> (long) v.x())) {
+				for (int i = 0; i < 1000; i++) {
+					writer.append(new Vec3d((i % 7 - 3) * (1L << 40), i, 0));
+				}
+			}
+
+			try (RecordFileReader<Vec3d> reader = new RecordFileReader<>(FileChannel.open(file), Vec3d.CODEC)) {
+				assertEquals(new Vec3d(-3L << 40, 0, 0), reader.find(-3L << 40));
+				assertEquals(new Vec3d(3L << 40, 6, 0), reader.find(3L << 40));
+				assertEquals(-1, reader.indexOf(1));
+			}
+
+			Files.write(file, new byte[32]);
+			assertThrows(IOException.class, () -> new RecordFileReader<>(FileChannel.open(file), Vec3d.CODEC));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testPrimitiveField() {
+		Codec<BedwarsTeam> codec = Codec.rec(BedwarsTeam::new,
+			Codecs.VAR32.intField(BedwarsTeam::playersAlive),
+			Codecs.createEnum(TeamColor.class).field(BedwarsTeam::color)
+		);
+
+		validate(new BedwarsTeam(3, TeamColor.RED), codec, 2);
+		validate(new BedwarsTeam(300, TeamColor.BLUE), codec, 3);
 	}
 
 	@Test
@@ -347,4 +1087,155 @@ public class IO {
 		validate(playerIDToNameMap, codec, 1 + 1 + 1 + 7 + 1 + 1 + 7 + 1 + 1 + 6);
 	}
 
+	@Test
+	public void testBufferInput() throws IOException {
+		Codec<Map<Integer, String>> codec = Codec.dynMap(HashMap::new, Codecs.VAR32, Codecs.UTF8);
+		Map<Integer, String> value = Map.of(0, "Pistike", 300, "Sanyika", -1, "Ferike");
+		byte[] bytes = DataOutputWrapper.encodeAndGetBytes(value, codec);
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2);
+		direct.put((byte) 0x7F).put(bytes).put((byte) 0x7F).flip().position(1).limit(bytes.length + 1);
+		DataInputWrapper in = new DataInputWrapper(direct);
+		assertEquals(value, codec.decode(in));
+		assertEquals(bytes.length, in.bytesRead());
+
+		DataInputWrapper truncated = new DataInputWrapper(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+		assertThrows(EOFException.class, () -> codec.decode(truncated));
+		assertThrows(EOFException.class, () -> new DataInputWrapper(new byte[]{0x10, 0x00}).readFixedI32Array(4));
+	}
+
+	@Test
+	public void testOutputBuffer() throws IOException {
+		OutputBuffer buffer = new OutputBuffer(0);
+		DataOutputWrapper out = new DataOutputWrapper(buffer);
+		long[] longs = {Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE};
+		out.writeVar32(-1);
+		out.writeVar64(Long.MIN_VALUE);
+		out.writeUTF8("\u00e1rv\u00edzt\u0171r\u0151 \u20ac \uD83D\uDE00");
+		out.writeDynI64Array(longs);
+
+		DataInputWrapper in = new DataInputWrapper(buffer.toByteBuffer());
+		assertEquals(-1, in.readVar32());
+		assertEquals(Long.MIN_VALUE, in.readVar64());
+		assertEquals("\u00e1rv\u00edzt\u0171r\u0151 \u20ac \uD83D\uDE00", in.readUTF8());
+		assertArrayEquals(longs, in.readDynI64Array());
+		assertEquals(buffer.size(), in.bytesRead());
+	}
+
+	@Test
+	public void testEncodedSize() throws IOException {
+		assertEquals(3 * 8, Vec3d.CODEC.fixedSize());
+		assertEquals(2 * 3 * 8, Vec3d.CODEC.fixedArray(Vec3d[]::new, 2).fixedSize());
+		assertEquals(Codec.VARIABLE_SIZE, Codecs.UTF8.fixedSize());
+
+		Codec<Map<String, Vec3d[]>> codec = Codec.dynMap(HashMap::new, Codecs.UTF8, Vec3d.CODEC.dynArray(Vec3d[]::new).nullable());
+		Map<String, Vec3d[]> value = new HashMap<>();
+		value.put("\u00e1rv\u00edzt\u0171r\u0151 \uD83D\uDE00 \uD800", new Vec3d[]{new Vec3d(1, 2, 3)});
+		value.put("", null);
+		assertEquals(DataOutputWrapper.encodeAndGetBytes(value, codec).length, codec.encodedSize(value));
+		assertEquals(24, Vec3d.KINDA_WORKS_BUT_THIS_IS_NOT_AN_OPTIMAL_SOLUTION_CODEC.encodedSize(new Vec3d(1, 2, 3)));
+
+		// Encoders without a size of their own run once
+		int[] calls = {0};
+		Codec<String> counting = Codec.of((out, s) -> {
+			calls[0]++;
+			out.writeUTF8(s);
+		}, Codecs.UTF8);
+		assertArrayEquals(new byte[]{1, 1, 'a'}, DataOutputWrapper.encodeAndGetBytes("a", counting.nullable()));
+		assertEquals(1, calls[0]);
+
+		// Encoders may call encodeAndGetBytes themselves, the scratch buffer isn't shared with them
+		Codec<String> nested = Codec.of((out, s) -> out.writeDynI8Array(DataOutputWrapper.encodeAndGetBytes(s, Codecs.UTF8)), Codecs.UTF8);
+		byte[] first = DataOutputWrapper.encodeAndGetBytes("ab", nested);
+		assertArrayEquals(new byte[]{3, 2, 'a', 'b'}, first);
+		assertArrayEquals(new byte[]{3, 2, 'c', 'd'}, DataOutputWrapper.encodeAndGetBytes("cd", nested));
+		assertArrayEquals(new byte[]{3, 2, 'a', 'b'}, first);
+	}
+
+	@Test
+	public void testMappedFile() throws IOException {
+		Path file = Files.createTempFile("binstd", ".bin");
+
+		try {
+			OutputBuffer buffer = new OutputBuffer();
+			DataOutputWrapper out = new DataOutputWrapper(buffer);
+
+			for (int i = 0; i < 1000; i++) {
+				Vec3d.CODEC.encode(out, new Vec3d(i, -i, i * 0.5));
+			}
+
+			Files.write(file, buffer.toByteArray());
+
+			try (FileChannel channel = FileChannel.open(file)) {
+				InputBuffer mapped = InputBuffer.map(channel);
+				DataInputWrapper in = new DataInputWrapper(mapped);
+
+				for (int i = 0; mapped.hasRemaining(); i++) {
+					assertEquals(new Vec3d(i, -i, i * 0.5), Vec3d.CODEC.decode(in));
+				}
+
+				assertEquals(1000L * 3 * 8, in.bytesRead());
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testIncrementalDecoder() throws IOException {
+		Codec<Map<Integer, String>> codec = Codec.dynMap(HashMap::new, Codecs.VAR32, Codecs.UTF8);
+		List<Map<Integer, String>> values = List.of(Map.of(), Map.of(1, "a".repeat(300)), Map.of(-1, "Pistike", 1 << 20, ""));
+		OutputBuffer buffer = new OutputBuffer();
+
+		for (Map<Integer, String> value : values) {
+			codec.framed().encode(new DataOutputWrapper(buffer), value);
+		}
+
+		byte[] bytes = buffer.toByteArray();
+		IncrementalDecoder<Map<Integer, String>> decoder = new IncrementalDecoder<>(codec);
+		List<Map<Integer, String>> decoded = new ArrayList<>();
+
+		for (int i = 0; i < bytes.length; i++) {
+			decoder.feed(bytes, i, 1);
+			decoder.decode(decoded::add);
+
+			if (i == 3) {
+				// frame of the empty map, then the 2 byte length of the frame holding size, key and the 300 byte string
+				assertEquals(1 + 1 + 2 + 300, decoder.bytesNeeded());
+			}
+		}
+
+		assertEquals(values, decoded);
+		assertEquals(0, decoder.pendingBytes());
+
+		// Large values are decoded once, when the whole frame is buffered
+		String[] strings = new String[100000];
+		Arrays.setAll(strings, i -> "s" + i);
+		Codec<String[]> framed = Codecs.UTF8.dynArray(String[]::new).framed();
+		buffer.reset();
+		framed.encode(new DataOutputWrapper(buffer), strings);
+		framed.encode(new DataOutputWrapper(buffer), new String[0]);
+		bytes = buffer.toByteArray();
+
+		IncrementalDecoder<String[]> frames = new IncrementalDecoder<>(Codecs.UTF8.dynArray(String[]::new));
+		List<String[]> arrays = new ArrayList<>();
+
+		for (int i = 0; i < bytes.length; i += 1460) {
+			frames.feed(bytes, i, Math.min(1460, bytes.length - i));
+			frames.decode(arrays::add);
+
+			if (arrays.isEmpty()) {
+				assertEquals(bytes.length - 2 - frames.pendingBytes(), frames.bytesNeeded());
+			}
+		}
+
+		assertEquals(2, arrays.size());
+		assertArrayEquals(strings, arrays.get(0));
+		assertArrayEquals(strings, framed.decode(new DataInputWrapper(bytes)));
+
+		IncrementalDecoder<String[]> full = new IncrementalDecoder<>(Codecs.UTF8.dynArray(String[]::new), DataInputWrapper.Config.UNRESTRICTED, 4);
+		full.feed(new byte[4]);
+		assertThrows(IOException.class, () -> full.readFrom(Channels.newChannel(new ByteArrayInputStream(new byte[1]))));
+	}
+
 }